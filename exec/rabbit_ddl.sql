@@ -171,11 +171,18 @@ CREATE TABLE bids (
     bid_amount int8 NOT NULL,
     bidder_sign varchar(255) NOT NULL,
     created_at timestamptz(6) NOT NULL,
+    settlement_status varchar(50) NULL,
     user_id int4 NOT NULL,
     auction_id int4 NOT NULL,
     CONSTRAINT bids_pkey PRIMARY KEY (bid_id)
 );
 
+-- 기존 DB 반영용 (비동기 입찰 확정 상태, null 이면 접수 시 바로 확정된 입찰)
+ALTER TABLE bids ADD COLUMN IF NOT EXISTS settlement_status varchar(50) NULL;
+
+-- 입찰 내역 커서 페이지 조회용
+CREATE INDEX IF NOT EXISTS idx_bids_auction_created ON bids (auction_id, created_at, bid_id);
+
 -- 코인 로그 테이블
 CREATE TABLE coin_logs (
     coin_log_id int4 GENERATED BY DEFAULT AS IDENTITY( INCREMENT BY 1 MINVALUE 1 MAXVALUE 2147483647 START 1 CACHE 1 NO CYCLE) NOT NULL,
@@ -247,4 +254,132 @@ CREATE TABLE ssafy_accounts (
     email varchar(255) NOT NULL,
     user_key varchar(255) NOT NULL,
     CONSTRAINT ssafy_accounts_pkey PRIMARY KEY (ssafy_account_id)
-);
\ No newline at end of file
+);
+
+-- 컨트랙트 이벤트 인덱스 테이블
+CREATE TABLE contract_event (
+    contract_event_id int8 GENERATED BY DEFAULT AS IDENTITY( INCREMENT BY 1 MINVALUE 1 MAXVALUE 9223372036854775807 START 1 CACHE 1 NO CYCLE) NOT NULL,
+    amount int8 NULL,
+    block_number int8 NOT NULL,
+    block_timestamp timestamptz(6) NULL,
+    created_at timestamptz(6) NOT NULL,
+    event_type varchar(50) NOT NULL,
+    from_address varchar(42) NULL,
+    log_index int4 NOT NULL,
+    to_address varchar(42) NULL,
+    token_id numeric(38) NOT NULL,
+    transaction_hash varchar(66) NOT NULL,
+    CONSTRAINT contract_event_pkey PRIMARY KEY (contract_event_id),
+    CONSTRAINT uk_contract_event_tx_log UNIQUE (transaction_hash, log_index)
+);
+
+CREATE INDEX idx_contract_event_token_block ON contract_event (token_id, block_number);
+
+-- 이벤트 인덱싱 체크포인트 테이블
+CREATE TABLE event_index_checkpoint (
+    indexer_name varchar(50) NOT NULL,
+    last_block int8 NOT NULL,
+    updated_at timestamptz(6) NOT NULL,
+    CONSTRAINT event_index_checkpoint_pkey PRIMARY KEY (indexer_name)
+);
+
+-- 경매 목록 조회 모델 테이블
+CREATE TABLE auction_listing (
+    auction_id int4 NOT NULL,
+    auction_status varchar(50) NOT NULL,
+    chain_synced_at timestamptz(6) NULL,
+    created_at timestamptz(6) NOT NULL,
+    default_count int4 NULL,
+    dr_wallet varchar(42) NULL,
+    earlypay_flag bool NULL,
+    end_date timestamptz(6) NOT NULL,
+    interest_rate int4 NULL,
+    maturity_date date NULL,
+    nft_image_url text NULL,
+    price int8 NOT NULL,
+    remaining_payments int4 NULL,
+    remaining_principal int8 NULL,
+    repay_type varchar(50) NULL,
+    token_id numeric(38) NOT NULL,
+    total_amount int8 NULL,
+    updated_at timestamptz(6) NOT NULL,
+    CONSTRAINT auction_listing_pkey PRIMARY KEY (auction_id)
+);
+
+CREATE INDEX idx_auction_listing_status_end_date ON auction_listing (auction_status, end_date);
+CREATE INDEX idx_auction_listing_status_price ON auction_listing (auction_status, price);
+CREATE INDEX idx_auction_listing_token_id ON auction_listing (token_id);
+
+-- 입찰 확정 아웃박스 테이블
+CREATE TABLE bid_outbox (
+    outbox_id int8 GENERATED BY DEFAULT AS IDENTITY( INCREMENT BY 1 MINVALUE 1 MAXVALUE 9223372036854775807 START 1 CACHE 1 NO CYCLE) NOT NULL,
+    auction_id int4 NOT NULL,
+    bid_amount int8 NOT NULL,
+    bid_id int4 NOT NULL,
+    bidder_wallet varchar(42) NOT NULL,
+    created_at timestamptz(6) NOT NULL,
+    last_error text NULL,
+    previous_bidder_id int4 NULL,
+    status varchar(50) NOT NULL,
+    token_id numeric(38) NOT NULL,
+    transaction_hash varchar(66) NULL,
+    updated_at timestamptz(6) NULL,
+    user_id int4 NOT NULL,
+    CONSTRAINT bid_outbox_pkey PRIMARY KEY (outbox_id),
+    CONSTRAINT uk_bid_outbox_bid_id UNIQUE (bid_id)
+);
+
+CREATE INDEX idx_bid_outbox_status ON bid_outbox (status, outbox_id);
+CREATE INDEX idx_bid_outbox_auction_status ON bid_outbox (auction_id, status);
+
+-- 경매 종료 처리 스냅샷 테이블
+CREATE TABLE auction_finalization (
+    auction_id int4 NOT NULL,
+    agreement_date date NULL,
+    attempt_count int4 NOT NULL,
+    completed_at timestamptz(6) NULL,
+    contract_ipfs_url text NULL,
+    created_at timestamptz(6) NOT NULL,
+    last_error text NULL,
+    lease_until timestamptz(6) NULL,
+    outcome varchar(50) NOT NULL,
+    remaining_principal numeric(38) NULL,
+    transaction_hash varchar(66) NULL,
+    updated_at timestamptz(6) NULL,
+    winner_user_id int4 NULL,
+    winning_bid_amount int8 NULL,
+    CONSTRAINT auction_finalization_pkey PRIMARY KEY (auction_id)
+);
+
+-- 경매 종료 처리 단계 완료 기록 테이블
+CREATE TABLE auction_finalization_checkpoint (
+    checkpoint_id int8 GENERATED BY DEFAULT AS IDENTITY( INCREMENT BY 1 MINVALUE 1 MAXVALUE 9223372036854775807 START 1 CACHE 1 NO CYCLE) NOT NULL,
+    auction_id int4 NOT NULL,
+    completed_at timestamptz(6) NOT NULL,
+    step varchar(50) NOT NULL,
+    CONSTRAINT auction_finalization_checkpoint_pkey PRIMARY KEY (checkpoint_id),
+    CONSTRAINT uk_auction_finalization_checkpoint UNIQUE (auction_id, step)
+);
+
+-- 경매 종료 타이머 테이블
+CREATE TABLE auction_end_timer (
+    auction_id int4 NOT NULL,
+    created_at timestamptz(6) NOT NULL,
+    fire_at timestamptz(6) NOT NULL,
+    CONSTRAINT auction_end_timer_pkey PRIMARY KEY (auction_id)
+);
+
+CREATE INDEX idx_auction_end_timer_fire_at ON auction_end_timer (fire_at);
+
+-- 경매 종료 재시도 실패(parking lot) 테이블
+CREATE TABLE auction_end_parking (
+    parking_id int8 GENERATED BY DEFAULT AS IDENTITY( INCREMENT BY 1 MINVALUE 1 MAXVALUE 9223372036854775807 START 1 CACHE 1 NO CYCLE) NOT NULL,
+    auction_id int4 NOT NULL,
+    last_error text NULL,
+    parked_at timestamptz(6) NOT NULL,
+    replayed_at timestamptz(6) NULL,
+    retry_count int4 NOT NULL,
+    CONSTRAINT auction_end_parking_pkey PRIMARY KEY (parking_id)
+);
+
+CREATE INDEX idx_auction_end_parking_auction ON auction_end_parking (auction_id, replayed_at);
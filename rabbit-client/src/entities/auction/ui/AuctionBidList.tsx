@@ -9,9 +9,17 @@ import { Separator } from "@/shared/ui/Separator";
 
 interface AuctionBidList {
   data: BidListResponse[];
+  hasNext?: boolean;
+  isFetchingNext?: boolean;
+  onLoadMore?: () => void;
 }
 
-const AuctionBidList = ({ data }: AuctionBidList) => {
+const AuctionBidList = ({
+  data,
+  hasNext = false,
+  isFetchingNext = false,
+  onLoadMore,
+}: AuctionBidList) => {
   if (data.length === 0) {
     return (
       <div className="w-full rounded-sm bg-gray-900 px-4 py-4 sm:px-6">
@@ -50,6 +58,18 @@ const AuctionBidList = ({ data }: AuctionBidList) => {
           </li>
         );
       })}
+      {hasNext && onLoadMore && (
+        <li className="mt-4 flex justify-center">
+          <button
+            type="button"
+            onClick={onLoadMore}
+            disabled={isFetchingNext}
+            className="text-sm text-gray-100 hover:text-white disabled:opacity-50"
+          >
+            {isFetchingNext ? "불러오는 중..." : "더 보기"}
+          </button>
+        </li>
+      )}
     </ul>
   );
 
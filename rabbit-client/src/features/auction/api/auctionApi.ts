@@ -7,7 +7,7 @@ import {
   AuctionSimilarListResponse,
   AvailableAuctionsResponse,
   BidHistoryResponse,
-  BidListResponse,
+  BidListPageResponse,
   CreateAuctionResponse,
   MyAuctionListResponse,
   PNInfoListResponse,
@@ -58,11 +58,13 @@ export const getPNInfoListAPI = async (
 
 export const getBidListAPI = async (
   auctionId: number,
-): Promise<ApiResponse<BidListResponse[]>> => {
+  cursor?: string | null,
+): Promise<ApiResponse<BidListPageResponse>> => {
+  const queryString = cursor
+    ? `?cursor=${encodeURIComponent(cursor)}`
+    : "";
   const res = await fetch(
-    `${VITE_API_URL}/${VITE_API_VERSION}/auctions/${auctionId}/bids/list
-
-`,
+    `${VITE_API_URL}/${VITE_API_VERSION}/auctions/${auctionId}/bids/list${queryString}`,
     fetchOption("GET"),
   );
   const data = await res.json();
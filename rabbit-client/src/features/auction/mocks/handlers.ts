@@ -4,7 +4,7 @@ import { AuctionListRequest } from "../types/request";
 import {
   AuctionListResponse,
   AuctionSimilarListResponse,
-  BidListResponse,
+  BidListPageResponse,
   PNInfoListResponse,
   SubmitAuctionBidResponse,
 } from "../types/response";
@@ -148,9 +148,13 @@ export const handlers = [
         });
       }
 
-      const response: ApiResponse<BidListResponse[]> = {
+      const response: ApiResponse<BidListPageResponse> = {
         status: "SUCCESS",
-        data: mockBidList,
+        data: {
+          content: mockBidList,
+          nextCursor: null,
+          hasNext: false,
+        },
       };
 
       return HttpResponse.json(response);
@@ -37,6 +37,12 @@ export interface BidListResponse {
   createdAt: string;
 }
 
+export interface BidListPageResponse {
+  content: BidListResponse[];
+  nextCursor: string | null;
+  hasNext: boolean;
+}
+
 export interface AuctionDetailResponse {
   auctionId: number;
   auctionStatus: auctionStatus;
@@ -6,7 +6,7 @@ import {
 } from "@/features/auction/api/auctionApi";
 import AuctionBidList from "@/entities/auction/ui/AuctionBidList";
 import AuctionBidPanel from "@/entities/auction/ui/AuctionBidPanel";
-import { useQuery } from "@tanstack/react-query";
+import { useInfiniteQuery, useQuery } from "@tanstack/react-query";
 import { useParams } from "react-router";
 import PNInfoList from "@/entities/auction/ui/PNInfoList";
 import useMediaQuery from "@/shared/hooks/useMediaQuery";
@@ -86,9 +86,19 @@ const AuctionDetail = () => {
     isLoading: bidListLoading,
     isError: bidListError,
     refetch: refetchBidList,
-  } = useQuery({
+    fetchNextPage: fetchNextBidList,
+    hasNextPage: hasNextBidList,
+    isFetchingNextPage: isFetchingNextBidList,
+  } = useInfiniteQuery({
     queryKey: ["bidList", auctionId],
-    queryFn: () => getBidListAPI(Number(auctionId)),
+    queryFn: ({ pageParam }) => getBidListAPI(Number(auctionId), pageParam),
+    getNextPageParam: (lastPage) => {
+      if (lastPage?.data?.hasNext) {
+        return lastPage.data.nextCursor;
+      }
+      return undefined;
+    },
+    initialPageParam: null as string | null,
   });
 
   const {
@@ -164,7 +174,15 @@ const AuctionDetail = () => {
               ) : bidListError ? (
                 <div>입찰 목록 로드 중 에러가 발생했습니다.</div>
               ) : (
-                <AuctionBidList data={bidList?.data || []} />
+                <AuctionBidList
+                  data={
+                    bidList?.pages.flatMap((page) => page?.data?.content ?? []) ||
+                    []
+                  }
+                  hasNext={hasNextBidList}
+                  isFetchingNext={isFetchingNextBidList}
+                  onLoadMore={() => fetchNextBidList()}
+                />
               )}
             </div>
           </div>
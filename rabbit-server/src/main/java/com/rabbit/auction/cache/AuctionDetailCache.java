@@ -0,0 +1,108 @@
+package com.rabbit.auction.cache;
+
+import com.rabbit.auction.domain.dto.response.AuctionDetailResponseDTO;
+import com.rabbit.auction.repository.AuctionRepository;
+import com.rabbit.global.config.CacheConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 경매 상세 조회 캐시 (auctionId 기준)
+ * - DB/체인 조회와 만기수취액 계산까지 끝난, 사용자와 무관한 상세 정보를 저장 (mineFlag 는 요청마다 계산)
+ * - 입찰/경매 종료/상환 이벤트가 발생하면 이 서버 캐시를 지우고 Redis 채널로 다른 서버에도 무효화를 알림
+ * - 무효화 메시지를 놓친 경우에 대비해 만료 시간을 둠
+ */
+@Slf4j
+@Component
+public class AuctionDetailCache {
+
+    // 서버 간 무효화 채널 (메시지 본문은 auctionId)
+    public static final String INVALIDATION_CHANNEL = "auction-detail-invalidation";
+
+    private final Cache cache;
+    private final AuctionRepository auctionRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final long maxAgeNanos;
+
+    // 경매별 마지막 무효화 시각 - 이보다 먼저 조회를 시작한 결과는 저장하지 않음
+    private final Map<Integer, Long> invalidatedAt = new ConcurrentHashMap<>();
+
+    public AuctionDetailCache(CacheManager cacheManager,
+                              AuctionRepository auctionRepository,
+                              StringRedisTemplate redisTemplate,
+                              @Value("${cache.auction-detail.max-age-seconds:300}") long maxAgeSeconds) {
+        this.cache = cacheManager.getCache(CacheConfig.AUCTION_DETAIL);
+        this.auctionRepository = auctionRepository;
+        this.redisTemplate = redisTemplate;
+        this.maxAgeNanos = Duration.ofSeconds(maxAgeSeconds).toNanos();
+    }
+
+    /**
+     * 캐시된 상세 정보 반환, 없으면 loader 로 조회 후 저장
+     */
+    public Snapshot get(Integer auctionId, Supplier<Snapshot> loader) {
+        Snapshot cached = cache.get(auctionId, Snapshot.class);
+        if (cached != null) {
+            return cached;
+        }
+
+        long loadStartedAt = System.nanoTime();
+        Snapshot snapshot = loader.get();
+
+        Long lastInvalidatedAt = invalidatedAt.get(auctionId);
+        if (lastInvalidatedAt == null || lastInvalidatedAt - loadStartedAt < 0) {
+            cache.put(auctionId, snapshot);
+        }
+        // 조회 도중 입찰 등으로 무효화됐으면 이전 값일 수 있으므로 저장하지 않음
+        return snapshot;
+    }
+
+    /**
+     * 경매 상세 캐시 무효화 (모든 서버)
+     */
+    public void invalidate(Integer auctionId) {
+        evictLocal(auctionId);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(auctionId));
+        } catch (Exception e) {
+            // 다른 서버는 만료 시간이 지나면 갱신됨
+            log.warn("[AuctionDetailCache] 무효화 전파 실패 - auctionId={}, 오류={}", auctionId, e.getMessage());
+        }
+    }
+
+    /**
+     * 토큰의 모든 경매 상세 캐시를 이 서버에서만 무효화 (상환/연체 이벤트)
+     * - 상환 이벤트는 모든 서버가 체인 상태 변경 채널로 받기 때문에 이 채널로 다시 전파하지 않음
+     */
+    public void evictLocalByTokenId(BigInteger tokenId) {
+        auctionRepository.findAuctionIdsByTokenId(tokenId).forEach(this::evictLocal);
+    }
+
+    /**
+     * 이 서버의 캐시만 무효화 (무효화 채널 수신 시)
+     */
+    public void evictLocal(Integer auctionId) {
+        long now = System.nanoTime();
+        invalidatedAt.put(auctionId, now);
+        cache.evict(auctionId);
+
+        // 만료 시간이 지난 무효화 기록은 더 이상 필요 없음
+        invalidatedAt.values().removeIf(time -> now - time > maxAgeNanos);
+    }
+
+    /**
+     * 캐시 항목 (mineFlag 계산용 양도자 ID 포함)
+     */
+    public record Snapshot(AuctionDetailResponseDTO detail, Integer assignorId) {
+    }
+}
@@ -0,0 +1,236 @@
+package com.rabbit.auction.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rabbit.auction.domain.dto.response.BidResponseDTO;
+import com.rabbit.global.code.domain.enums.SysCommonCodes;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * 경매별 최근 입찰 내역 Redis 캐시 (정렬 집합, score 는 bidId)
+ * - 입찰은 경매 행 잠금 아래에서 순서대로 저장되므로 경매 안에서는 bidId 순서가 (createdAt, bidId) 순서와 같음
+ * - 입찰이 커밋되면 바로 추가하고 최근 maxSize + 1 건만 유지 (+1 은 다음 페이지 존재 여부 확인용)
+ * - DB 에서 채운 적이 있는 집합만 완전한 최근 내역으로 보고 응답에 사용 (채움 표시는 score 0 인 멤버로 같은 키에 저장해서 함께 만료)
+ * - 확정 상태가 바뀌면 경매별 버전을 올리고, DB 를 읽기 전 버전과 채울 때 버전이 다르면 채우지 않음
+ *   → 조회 도중 확정/거절된 입찰이 이전 상태로 다시 들어가지 않음
+ */
+@Slf4j
+@Component
+public class BidHistoryCache {
+
+    private static final String KEY_PREFIX = "auction:bids:";
+    private static final String WARM_MARKER = "warm";
+    private static final String VERSION_SUFFIX = ":version";
+
+    // 버전이 그대로일 때만 입찰별로 같은 score 의 멤버를 바꾸고 채움 표시 추가 (ARGV: 버전, 보관 수, TTL 초, score/멤버 쌍...)
+    private static final RedisScript<Long> WARM_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '') ~= ARGV[1] then return 0 end " +
+            "for i = 4, #ARGV, 2 do " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], ARGV[i], ARGV[i]) " +
+            "redis.call('ZADD', KEYS[1], ARGV[i], ARGV[i + 1]) " +
+            "end " +
+            "redis.call('ZADD', KEYS[1], 0, '" + WARM_MARKER + "') " +
+            "redis.call('ZREMRANGEBYRANK', KEYS[1], 1, -(tonumber(ARGV[2]) + 2)) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[3]) " +
+            "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    // 경매별로 보관하는 최근 입찰 수
+    private final int maxSize;
+
+    // 마지막 입찰/조회 이후 보관 시간
+    private final Duration ttl;
+
+    public BidHistoryCache(StringRedisTemplate redisTemplate,
+                           ObjectMapper objectMapper,
+                           @Value("${auction.bid.history.cache-size:50}") int maxSize,
+                           @Value("${auction.bid.history.ttl-minutes:60}") long ttlMinutes) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.maxSize = maxSize;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+    }
+
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * 최근 입찰 limit 건 (최신순), DB 에서 채운 적이 없거나 Redis 오류면 null
+     */
+    public List<BidResponseDTO> getRecent(Integer auctionId, int limit) {
+        try {
+            String key = key(auctionId);
+            if (redisTemplate.opsForZSet().score(key, WARM_MARKER) == null) {
+                return null;
+            }
+
+            Set<String> members = redisTemplate.opsForZSet().reverseRangeByScore(key, 1, Double.MAX_VALUE, 0, limit);
+            redisTemplate.expire(key, ttl);
+
+            List<BidResponseDTO> bids = new ArrayList<>();
+            if (members != null) {
+                for (String member : members) {
+                    bids.add(deserialize(member).toResponse());
+                }
+            }
+            return bids;
+        } catch (Exception e) {
+            log.warn("[BidHistoryCache] 조회 실패 - auctionId={}, 오류={}", auctionId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 확정 상태 변경 버전 (DB 에서 최근 입찰을 읽기 전에 조회해서 warm 에 넘김), Redis 오류면 null
+     */
+    public String version(Integer auctionId) {
+        try {
+            String version = redisTemplate.opsForValue().get(versionKey(auctionId));
+            return version != null ? version : "";
+        } catch (Exception e) {
+            log.warn("[BidHistoryCache] 버전 조회 실패 - auctionId={}, 오류={}", auctionId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * DB 에서 읽은 최근 입찰로 채움 (그 사이 추가된 입찰은 유지되고, 같은 입찰은 DB 에서 읽은 값으로 바꿈)
+     * - DB 를 읽은 뒤 확정 상태가 바뀌었으면(버전이 다르면) 채우지 않음
+     *
+     * @param version DB 를 읽기 전에 조회한 {@link #version(Integer)} 값 (null 이면 채우지 않음)
+     */
+    public void warm(Integer auctionId, List<BidResponseDTO> recentBids, String version) {
+        if (version == null) {
+            return;
+        }
+        try {
+            List<String> args = new ArrayList<>();
+            args.add(version);
+            args.add(String.valueOf(maxSize));
+            args.add(String.valueOf(ttl.toSeconds()));
+            for (BidResponseDTO bid : recentBids) {
+                args.add(String.valueOf(bid.getBidId()));
+                args.add(serialize(bid));
+            }
+
+            Long warmed = redisTemplate.execute(WARM_SCRIPT, List.of(key(auctionId), versionKey(auctionId)), args.toArray());
+            if (warmed == null || warmed == 0) {
+                log.debug("[BidHistoryCache] 조회 중 확정 상태가 바뀌어 채우지 않음 - auctionId={}", auctionId);
+            }
+        } catch (Exception e) {
+            log.warn("[BidHistoryCache] 채우기 실패 - auctionId={}, 오류={}", auctionId, e.getMessage());
+        }
+    }
+
+    /**
+     * 커밋된 입찰 추가
+     */
+    public void append(Integer auctionId, BidResponseDTO bid) {
+        try {
+            String key = key(auctionId);
+            redisTemplate.opsForZSet().add(key, serialize(bid), bid.getBidId());
+            trim(key);
+            redisTemplate.expire(key, ttl);
+        } catch (Exception e) {
+            // 캐시는 다음 만료 후 DB 에서 다시 채워짐
+            log.warn("[BidHistoryCache] 추가 실패 - auctionId={}, bidId={}, 오류={}", auctionId, bid.getBidId(), e.getMessage());
+            evict(auctionId);
+        }
+    }
+
+    /**
+     * 입찰 확정 상태 변경 (비동기 확정 모드), 거절된 입찰은 목록에서 제거
+     */
+    public void updateStatus(Integer auctionId, Integer bidId, SysCommonCodes.BidSettlement status) {
+        try {
+            // 진행 중인 채우기가 이전 상태를 다시 넣지 않도록 먼저 버전을 올림
+            String versionKey = versionKey(auctionId);
+            redisTemplate.opsForValue().increment(versionKey);
+            redisTemplate.expire(versionKey, ttl);
+
+            String key = key(auctionId);
+            Set<String> members = redisTemplate.opsForZSet().rangeByScore(key, bidId, bidId);
+            redisTemplate.opsForZSet().removeRangeByScore(key, bidId, bidId);
+
+            if (status == SysCommonCodes.BidSettlement.REJECTED || members == null || members.isEmpty()) {
+                return;
+            }
+
+            CachedBid cached = deserialize(members.iterator().next());
+            redisTemplate.opsForZSet().add(key,
+                    serialize(new CachedBid(cached.bidId(), cached.bidAmount(), cached.createdAtMicros(), status.name())),
+                    bidId);
+        } catch (Exception e) {
+            log.warn("[BidHistoryCache] 상태 변경 실패 - auctionId={}, bidId={}, 오류={}", auctionId, bidId, e.getMessage());
+            evict(auctionId);
+        }
+    }
+
+    public void evict(Integer auctionId) {
+        try {
+            redisTemplate.delete(key(auctionId));
+        } catch (Exception e) {
+            log.warn("[BidHistoryCache] 삭제 실패 - auctionId={}, 오류={}", auctionId, e.getMessage());
+        }
+    }
+
+    // 채움 표시(rank 0)와 최근 maxSize + 1 건만 남김
+    private void trim(String key) {
+        redisTemplate.opsForZSet().removeRange(key, 1, -(maxSize + 2L));
+    }
+
+    private String key(Integer auctionId) {
+        return KEY_PREFIX + auctionId;
+    }
+
+    private String versionKey(Integer auctionId) {
+        return KEY_PREFIX + auctionId + VERSION_SUFFIX;
+    }
+
+    private String serialize(BidResponseDTO bid) throws JsonProcessingException {
+        return serialize(new CachedBid(
+                bid.getBidId(),
+                bid.getBidAmount(),
+                ChronoUnit.MICROS.between(Instant.EPOCH, bid.getCreatedAt().toInstant()),
+                bid.getSettlementStatus() != null ? bid.getSettlementStatus().name() : null
+        ));
+    }
+
+    private String serialize(CachedBid cached) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(cached);
+    }
+
+    private CachedBid deserialize(String member) throws JsonProcessingException {
+        return objectMapper.readValue(member, CachedBid.class);
+    }
+
+    /**
+     * 캐시 저장 형식 (커서 계산을 위해 createdAt 을 마이크로초 단위로 보관)
+     */
+    record CachedBid(Integer bidId, Long bidAmount, long createdAtMicros, String settlementStatus) {
+        BidResponseDTO toResponse() {
+            return BidResponseDTO.builder()
+                    .bidId(bidId)
+                    .bidAmount(bidAmount)
+                    .createdAt(ZonedDateTime.ofInstant(Instant.EPOCH.plus(createdAtMicros, ChronoUnit.MICROS), ZoneId.systemDefault()))
+                    .settlementStatus(settlementStatus != null ? SysCommonCodes.BidSettlement.valueOf(settlementStatus) : null)
+                    .build();
+        }
+    }
+}
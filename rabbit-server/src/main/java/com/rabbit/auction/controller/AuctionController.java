@@ -7,6 +7,7 @@ import com.rabbit.auction.service.AuctionService;
 import com.rabbit.auction.domain.dto.request.AuctionRequestDTO;
 import com.rabbit.global.exception.BusinessException;
 import com.rabbit.global.exception.ErrorCode;
+import com.rabbit.global.jpa.QueryBudget;
 import com.rabbit.global.request.PageRequestDTO;
 import com.rabbit.global.response.CustomApiResponse;
 import com.rabbit.global.response.MessageResponse;
@@ -83,11 +84,14 @@ public class AuctionController {
         return ResponseEntity.ok(CustomApiResponse.success(result));
     }
 
+    @QueryBudget(2)
     @GetMapping("/my-auctions")
-    public ResponseEntity<CustomApiResponse<?>> myAuctions(Authentication authentication) {
+    public ResponseEntity<CustomApiResponse<?>> myAuctions(@Valid PageRequestDTO pageRequest, Authentication authentication) {
         String userId = (String) authentication.getPrincipal();
 
-        List<AuctionMyListResponseDTO> result = auctionService.myAuctionList(Integer.parseInt(userId));
+        Pageable pageable = pageRequest.toPageable("createdAt", Sort.Direction.DESC);
+
+        PageResponseDTO<AuctionMyListResponseDTO> result = auctionService.myAuctionList(Integer.parseInt(userId), pageable);
 
         return ResponseEntity.ok(CustomApiResponse.success(result));
     }
@@ -112,6 +116,7 @@ public class AuctionController {
     }
 
     @AuctionControllerSwagger.GetMyBidAuctionsApi
+    @QueryBudget(2)
     @GetMapping("/my-bids")
     public ResponseEntity<CustomApiResponse<?>> getMyBidAuctions(@Valid PageRequestDTO pageRequest, Authentication authentication) {
         String userId = (String) authentication.getPrincipal();
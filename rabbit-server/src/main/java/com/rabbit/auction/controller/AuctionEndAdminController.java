@@ -0,0 +1,34 @@
+package com.rabbit.auction.controller;
+
+import com.rabbit.auction.domain.dto.request.AuctionEndReplayRequestDTO;
+import com.rabbit.auction.domain.dto.response.ParkedAuctionEndResponseDTO;
+import com.rabbit.auction.service.AuctionEndRetryService;
+import com.rabbit.global.response.CustomApiResponse;
+import com.rabbit.global.response.MessageResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 경매 종료 보관함 관리 (재시도를 모두 소진한 경매 종료 요청 조회/재처리)
+ * - admin.user-ids 에 등록된 사용자만 호출 가능 (SecurityConfig)
+ */
+@RestController
+@RequestMapping("/api/v1/admin/auction-ends")
+@RequiredArgsConstructor
+public class AuctionEndAdminController {
+    private final AuctionEndRetryService auctionEndRetryService;
+
+    @GetMapping("/parked")
+    public ResponseEntity<CustomApiResponse<List<ParkedAuctionEndResponseDTO>>> getParked() {
+        return ResponseEntity.ok(CustomApiResponse.success(auctionEndRetryService.getParked()));
+    }
+
+    @PostMapping("/parked/replay")
+    public ResponseEntity<CustomApiResponse<?>> replay(@RequestBody(required = false) AuctionEndReplayRequestDTO request) {
+        int replayed = auctionEndRetryService.replay(request != null ? request.getAuctionIds() : null);
+        return ResponseEntity.ok(CustomApiResponse.success(MessageResponse.of("경매 종료 재처리 요청 완료", (long) replayed)));
+    }
+}
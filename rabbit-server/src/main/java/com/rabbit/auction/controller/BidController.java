@@ -2,7 +2,7 @@ package com.rabbit.auction.controller;
 
 import com.rabbit.auction.controller.swagger.BidControllerSwagger;
 import com.rabbit.auction.domain.dto.request.BidRequestDTO;
-import com.rabbit.auction.domain.dto.response.BidResponseDTO;
+import com.rabbit.auction.domain.dto.response.BidPageResponseDTO;
 import com.rabbit.auction.service.BidService;
 import com.rabbit.global.response.CustomApiResponse;
 import com.rabbit.global.response.MessageResponse;
@@ -14,8 +14,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/v1/auctions/{auctionId}/bids")
 @RequiredArgsConstructor
@@ -38,9 +36,11 @@ public class BidController {
 
     @BidControllerSwagger.GetBidListApi
     @GetMapping("/list")
-    public ResponseEntity<CustomApiResponse<?>> getBids(@PathVariable("auctionId") Integer auctionId) {
+    public ResponseEntity<CustomApiResponse<?>> getBids(@PathVariable("auctionId") Integer auctionId,
+                                                        @RequestParam(value = "cursor", required = false) String cursor,
+                                                        @RequestParam(value = "size", defaultValue = "20") int size) {
 
-        List<BidResponseDTO> result = bidService.getBids(auctionId);
+        BidPageResponseDTO result = bidService.getBids(auctionId, cursor, size);
 
         return ResponseEntity.ok(CustomApiResponse.success(result));
     }
@@ -104,7 +104,7 @@ public interface BidControllerSwagger {
     @Retention(RetentionPolicy.RUNTIME)
     @Operation(
             summary = "경매 입찰 내역 조회",
-            description = "특정 경매 ID에 대한 입찰 내역을 최신순으로 조회합니다.",
+            description = "특정 경매 ID에 대한 입찰 내역을 최신순으로 조회합니다. 다음 페이지는 응답의 nextCursor 를 cursor 로 전달합니다.",
             security = {@SecurityRequirement(name = "bearerAuth")},
             parameters = {
                     @Parameter(
@@ -113,6 +113,18 @@ public interface BidControllerSwagger {
                             required = true,
                             in = ParameterIn.PATH,
                             schema = @Schema(type = "integer", format = "int32", minimum = "1")
+                    ),
+                    @Parameter(
+                            name = "cursor",
+                            description = "이전 응답의 nextCursor (첫 페이지는 생략)",
+                            in = ParameterIn.QUERY,
+                            schema = @Schema(type = "string")
+                    ),
+                    @Parameter(
+                            name = "size",
+                            description = "페이지 크기 (최대 100)",
+                            in = ParameterIn.QUERY,
+                            schema = @Schema(type = "integer", format = "int32", defaultValue = "20")
                     )
             },
             responses = {
@@ -127,18 +139,22 @@ public interface BidControllerSwagger {
                                             summary = "입찰 내역 리스트",
                                             value = "{\n" +
                                                     "  \"status\": \"SUCCESS\",\n" +
-                                                    "  \"data\": [\n" +
-                                                    "    {\n" +
-                                                    "      \"bid_id\": 2,\n" +
-                                                    "      \"bid_amount\": 15050,\n" +
-                                                    "      \"created_at\": \"2025-03-12T15:00:00\"\n" +
-                                                    "    },\n" +
-                                                    "    {\n" +
-                                                    "      \"bid_id\": 1,\n" +
-                                                    "      \"bid_amount\": 10020,\n" +
-                                                    "      \"created_at\": \"2025-03-12T14:30:00\"\n" +
-                                                    "    }\n" +
-                                                    "  ],\n" +
+                                                    "  \"data\": {\n" +
+                                                    "    \"content\": [\n" +
+                                                    "      {\n" +
+                                                    "        \"bid_id\": 2,\n" +
+                                                    "        \"bid_amount\": 15050,\n" +
+                                                    "        \"created_at\": \"2025-03-12T15:00:00\"\n" +
+                                                    "      },\n" +
+                                                    "      {\n" +
+                                                    "        \"bid_id\": 1,\n" +
+                                                    "        \"bid_amount\": 10020,\n" +
+                                                    "        \"created_at\": \"2025-03-12T14:30:00\"\n" +
+                                                    "      }\n" +
+                                                    "    ],\n" +
+                                                    "    \"next_cursor\": null,\n" +
+                                                    "    \"has_next\": false\n" +
+                                                    "  },\n" +
                                                     "  \"error\": null\n" +
                                                     "}"
                                     )
@@ -0,0 +1,16 @@
+package com.rabbit.auction.domain.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AuctionEndReplayRequestDTO {
+    private List<Integer> auctionIds;   // 비어 있으면 보관된 전체 재처리
+}
@@ -11,7 +11,7 @@ import java.math.BigInteger;
 import java.time.ZonedDateTime;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class AuctionDetailResponseDTO {
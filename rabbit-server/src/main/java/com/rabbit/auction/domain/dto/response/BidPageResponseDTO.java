@@ -0,0 +1,18 @@
+package com.rabbit.auction.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BidPageResponseDTO {
+    private List<BidResponseDTO> content;   // 입찰 내역 (최신순)
+    private String nextCursor;              // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+    private boolean hasNext;                // 다음 페이지 존재 여부
+}
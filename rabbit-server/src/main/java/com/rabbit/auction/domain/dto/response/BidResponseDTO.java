@@ -1,5 +1,6 @@
 package com.rabbit.auction.domain.dto.response;
 
+import com.rabbit.global.code.domain.enums.SysCommonCodes;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -15,4 +16,5 @@ public class BidResponseDTO {
     private Integer bidId;
     private Long bidAmount;
     private ZonedDateTime createdAt;
+    private SysCommonCodes.BidSettlement settlementStatus;  // 비동기 확정 모드의 확정 상태
 }
@@ -33,7 +33,8 @@ public class MyAuctionResponseDTO {
             Long price,
             Long bidAmount,
             String bidStatus,
-            Long bidderNum
+            Long bidderNum,
+            String nftImageUrl
     ) {
         this.auctionId = auctionId;
         this.bidDate = bidDate;
@@ -43,6 +44,7 @@ public class MyAuctionResponseDTO {
         this.bidAmount = bidAmount;
         this.bidStatus = bidStatus;
         this.bidderNum = bidderNum;
+        this.nftImageUrl = nftImageUrl;
     }
 
     public void setNftImage(String nftImage) {
@@ -0,0 +1,20 @@
+package com.rabbit.auction.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ParkedAuctionEndResponseDTO {
+    private Long parkingId;
+    private Integer auctionId;
+    private Integer retryCount;
+    private String lastError;
+    private ZonedDateTime parkedAt;
+}
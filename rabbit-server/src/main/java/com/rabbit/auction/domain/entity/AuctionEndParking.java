@@ -0,0 +1,47 @@
+package com.rabbit.auction.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 재시도를 모두 소진한 경매 종료 요청 보관 (auction_end_parking)
+ * - 관리자 재처리 전까지 보관, 재처리하면 replayedAt 기록
+ */
+@Table(
+        name = "auction_end_parking",
+        indexes = {
+                @Index(name = "idx_auction_end_parking_auction", columnList = "auction_id, replayed_at")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Entity
+public class AuctionEndParking {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long parkingId;
+
+    @Column(name = "auction_id", nullable = false)
+    private Integer auctionId;
+
+    @Column(nullable = false)
+    private Integer retryCount;
+
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(nullable = false)
+    private ZonedDateTime parkedAt;
+
+    @Column(name = "replayed_at")
+    private ZonedDateTime replayedAt;
+
+    public void markReplayed() {
+        this.replayedAt = ZonedDateTime.now();
+    }
+}
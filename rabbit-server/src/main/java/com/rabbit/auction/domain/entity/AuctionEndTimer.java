@@ -0,0 +1,37 @@
+package com.rabbit.auction.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 경매 종료 예약 (auction_end_timer)
+ * - 종료 처리 메시지를 보내기 전까지만 존재 (발송하면 삭제)
+ */
+@Table(
+        name = "auction_end_timer",
+        indexes = {
+                @Index(name = "idx_auction_end_timer_fire_at", columnList = "fire_at")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Entity
+public class AuctionEndTimer {
+
+    @Id
+    private Integer auctionId;
+
+    @Column(name = "fire_at", nullable = false)
+    private ZonedDateTime fireAt;
+
+    @Column(nullable = false)
+    private ZonedDateTime createdAt;
+
+    public void reschedule(ZonedDateTime fireAt) {
+        this.fireAt = fireAt;
+    }
+}
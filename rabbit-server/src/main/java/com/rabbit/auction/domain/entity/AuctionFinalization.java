@@ -0,0 +1,89 @@
+package com.rabbit.auction.domain.entity;
+
+import com.rabbit.global.code.domain.enums.SysCommonCodes;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+
+/**
+ * 경매 종료 처리 상태 (auction_finalization)
+ * - 첫 실행에서 낙찰자/상환 정보를 고정해 두고, 재시도 시에는 같은 값으로 남은 단계만 이어서 실행
+ * - leaseUntil 까지는 선점한 서버만 실행 (AuctionFinalizationRepository.acquireLease)
+ */
+@Table(name = "auction_finalization")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Entity
+public class AuctionFinalization {
+
+    @Id
+    private Integer auctionId;
+
+    // 종료 결과 (COMPLETED: 낙찰, FAILED: 유찰)
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private SysCommonCodes.Auction outcome;
+
+    private Integer winnerUserId;
+
+    private Long winningBidAmount;
+
+    // 계약서에 기재할 양도 채권 금액 (종료 시점의 남은 원금)
+    private BigInteger remainingPrincipal;
+
+    // 계약서/통지서 작성일
+    private LocalDate agreementDate;
+
+    @Column(columnDefinition = "TEXT")
+    private String contractIpfsUrl;
+
+    @Column(length = 66)
+    private String transactionHash;
+
+    @Column(nullable = false)
+    private Integer attemptCount;
+
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(nullable = false)
+    private ZonedDateTime createdAt;
+
+    private ZonedDateTime updatedAt;
+
+    private ZonedDateTime completedAt;
+
+    // 실행 선점 만료 시각 (실행 중인 서버가 중단돼도 만료 후 다른 서버가 이어서 실행)
+    private ZonedDateTime leaseUntil;
+
+    public void startAttempt() {
+        this.attemptCount = attemptCount + 1;
+        this.updatedAt = ZonedDateTime.now();
+    }
+
+    public void recordUpload(String contractIpfsUrl) {
+        this.contractIpfsUrl = contractIpfsUrl;
+        this.updatedAt = ZonedDateTime.now();
+    }
+
+    public void recordTransaction(String transactionHash) {
+        this.transactionHash = transactionHash;
+        this.updatedAt = ZonedDateTime.now();
+    }
+
+    public void fail(String lastError) {
+        this.lastError = lastError;
+        this.updatedAt = ZonedDateTime.now();
+    }
+
+    public void complete() {
+        this.lastError = null;
+        this.completedAt = ZonedDateTime.now();
+        this.updatedAt = completedAt;
+    }
+}
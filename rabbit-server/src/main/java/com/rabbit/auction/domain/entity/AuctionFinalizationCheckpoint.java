@@ -0,0 +1,38 @@
+package com.rabbit.auction.domain.entity;
+
+import com.rabbit.auction.domain.enums.AuctionFinalizationStep;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 경매 종료 처리 단계별 완료 기록 (auction_finalization_checkpoint)
+ */
+@Table(
+        name = "auction_finalization_checkpoint",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_auction_finalization_checkpoint", columnNames = {"auction_id", "step"})
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Entity
+public class AuctionFinalizationCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long checkpointId;
+
+    @Column(name = "auction_id", nullable = false)
+    private Integer auctionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private AuctionFinalizationStep step;
+
+    @Column(nullable = false)
+    private ZonedDateTime completedAt;
+}
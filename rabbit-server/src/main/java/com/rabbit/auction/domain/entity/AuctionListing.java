@@ -0,0 +1,86 @@
+package com.rabbit.auction.domain.entity;
+
+import com.rabbit.global.code.domain.enums.SysCommonCodes;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+
+/**
+ * 경매 목록 조회용 프로젝션 (auction_listing)
+ * - 경매 / 차용증 / 블록체인 상환 정보를 미리 합쳐 두어 목록 조회 시 체인 호출 없이 한 번의 쿼리로 페이징
+ * - 입찰, 경매 종료, 상환 이벤트 발생 시 갱신
+ */
+@Table(
+        name = "auction_listing",
+        indexes = {
+                @Index(name = "idx_auction_listing_status_end_date", columnList = "auction_status, end_date"),
+                @Index(name = "idx_auction_listing_status_price", columnList = "auction_status, price"),
+                @Index(name = "idx_auction_listing_token_id", columnList = "token_id")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Entity
+public class AuctionListing {
+
+    @Id
+    private Integer auctionId;
+
+    @Column(name = "token_id", nullable = false)
+    private BigInteger tokenId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "auction_status", nullable = false, length = 50)
+    private SysCommonCodes.Auction auctionStatus;
+
+    // 현재가 (입찰이 없으면 최소 입찰가)
+    @Column(nullable = false)
+    private Long price;
+
+    @Column(name = "end_date", nullable = false)
+    private ZonedDateTime endDate;
+
+    @Column(nullable = false)
+    private ZonedDateTime createdAt;
+
+    // 차용증 정보
+    private Integer interestRate;
+
+    @Column(length = 50)
+    private String repayType;
+
+    private LocalDate maturityDate;
+
+    private Boolean earlypayFlag;
+
+    @Column(columnDefinition = "TEXT")
+    private String nftImageUrl;
+
+    @Column(length = 42)
+    private String drWallet;
+
+    // 블록체인 상환 정보 (동기화 전에는 null)
+    private Long remainingPrincipal;
+
+    private Integer remainingPayments;
+
+    private Integer defaultCount;
+
+    private Long totalAmount;
+
+    private ZonedDateTime chainSyncedAt;
+
+    @Column(nullable = false)
+    private ZonedDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = ZonedDateTime.now();
+    }
+}
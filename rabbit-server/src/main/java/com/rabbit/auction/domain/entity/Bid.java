@@ -1,11 +1,17 @@
 package com.rabbit.auction.domain.entity;
 
+import com.rabbit.global.code.domain.enums.SysCommonCodes;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.ZonedDateTime;
 
-@Table(name="bids")
+@Table(
+        name = "bids",
+        indexes = {
+                @Index(name = "idx_bids_auction_created", columnList = "auction_id, created_at, bid_id")
+        }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -32,4 +38,9 @@ public class Bid {
 
     @Column(nullable=false)
     private ZonedDateTime createdAt;
+
+    // 비동기 확정 모드에서만 사용 (null 이면 접수 시 바로 확정된 입찰)
+    @Enumerated(EnumType.STRING)
+    @Column(length = 50)
+    private SysCommonCodes.BidSettlement settlementStatus;
 }
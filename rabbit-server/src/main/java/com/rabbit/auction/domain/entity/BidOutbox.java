@@ -0,0 +1,88 @@
+package com.rabbit.auction.domain.entity;
+
+import com.rabbit.global.code.domain.enums.SysCommonCodes;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigInteger;
+import java.time.ZonedDateTime;
+
+/**
+ * 입찰 확정 아웃박스 (bid_outbox)
+ * - 입찰 접수 트랜잭션에서 함께 저장하고, 백그라운드 정산기가 RAB 예치 후 상태를 갱신
+ */
+@Table(
+        name = "bid_outbox",
+        indexes = {
+                @Index(name = "idx_bid_outbox_status", columnList = "status, outbox_id"),
+                @Index(name = "idx_bid_outbox_auction_status", columnList = "auction_id, status")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Entity
+public class BidOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long outboxId;
+
+    @Column(nullable = false, unique = true)
+    private Integer bidId;
+
+    @Column(name = "auction_id", nullable = false)
+    private Integer auctionId;
+
+    @Column(nullable = false)
+    private BigInteger tokenId;
+
+    @Column(nullable = false)
+    private Integer userId;
+
+    @Column(nullable = false, length = 42)
+    private String bidderWallet;
+
+    @Column(nullable = false)
+    private Long bidAmount;
+
+    // 입찰 접수 시점의 최고 입찰자 (확정 후 입찰 실패 알림 대상)
+    private Integer previousBidderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private SysCommonCodes.BidSettlement status;
+
+    @Column(length = 66)
+    private String transactionHash;
+
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(nullable = false)
+    private ZonedDateTime createdAt;
+
+    private ZonedDateTime updatedAt;
+
+    public void confirm(String transactionHash) {
+        this.status = SysCommonCodes.BidSettlement.CONFIRMED;
+        this.transactionHash = transactionHash;
+        this.updatedAt = ZonedDateTime.now();
+    }
+
+    // 예치 결과를 알 수 없음 (SUBMITTED 유지, 리퍼가 체인 상태로 확정/거절)
+    public void recordUnknown(String transactionHash, String lastError) {
+        this.transactionHash = transactionHash;
+        this.lastError = lastError;
+        this.updatedAt = ZonedDateTime.now();
+    }
+
+    public void reject(String transactionHash, String lastError) {
+        this.status = SysCommonCodes.BidSettlement.REJECTED;
+        this.transactionHash = transactionHash;
+        this.lastError = lastError;
+        this.updatedAt = ZonedDateTime.now();
+    }
+}
@@ -0,0 +1,28 @@
+package com.rabbit.auction.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 경매 종료 처리 단계
+ * - 체인 단계(업로드/낙찰/취소)는 순서대로, 이후 알림/메일 단계는 서로 독립적이라 병렬로 실행
+ */
+@Getter
+@RequiredArgsConstructor
+public enum AuctionFinalizationStep {
+    // 낙찰
+    TRANSFER_PDF_UPLOADED("양도양수계약서 업로드"),
+    FINALIZED_ON_CHAIN("블록체인 낙찰 처리"),
+    CREDITOR_CHANGED("채권자 정보 변경"),
+    WINNER_NOTIFIED("낙찰자 알림"),
+    WINNER_MAILED("낙찰자 계약서 메일"),
+    SELLER_NOTIFIED("양도자 알림"),
+    SELLER_MAILED("양도자 계약서 메일"),
+    DEBTOR_NOTICE_MAILED("채무자 양도 통지 메일"),
+
+    // 유찰
+    CANCELED_ON_CHAIN("블록체인 경매 취소"),
+    SELLER_FAILED_NOTIFIED("양도자 유찰 알림");
+
+    private final String label;
+}
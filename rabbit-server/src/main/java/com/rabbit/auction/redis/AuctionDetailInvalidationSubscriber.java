@@ -0,0 +1,31 @@
+package com.rabbit.auction.redis;
+
+import com.rabbit.auction.cache.AuctionDetailCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다른 서버에서 보낸 경매 상세 캐시 무효화 수신
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class AuctionDetailInvalidationSubscriber implements MessageListener {
+
+    private final AuctionDetailCache auctionDetailCache;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String raw = new String(message.getBody(), StandardCharsets.UTF_8);
+            auctionDetailCache.evictLocal(Integer.valueOf(raw));
+        } catch (Exception e) {
+            log.error("경매 상세 캐시 무효화 메시지 처리 실패", e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.rabbit.auction.redis;
+
+import com.rabbit.auction.service.BidSequencer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다른 서버에서 보낸 입찰 순서기 상태 무효화 수신
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class BidSequencerInvalidationSubscriber implements MessageListener {
+
+    private final BidSequencer bidSequencer;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String raw = new String(message.getBody(), StandardCharsets.UTF_8);
+            bidSequencer.evict(Integer.valueOf(raw));
+        } catch (Exception e) {
+            log.error("입찰 순서기 상태 무효화 메시지 처리 실패", e);
+        }
+    }
+}
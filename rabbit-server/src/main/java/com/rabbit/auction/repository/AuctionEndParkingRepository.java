@@ -0,0 +1,16 @@
+package com.rabbit.auction.repository;
+
+import com.rabbit.auction.domain.entity.AuctionEndParking;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface AuctionEndParkingRepository extends JpaRepository<AuctionEndParking, Long> {
+
+    List<AuctionEndParking> findByReplayedAtIsNullOrderByParkedAtAsc();
+
+    List<AuctionEndParking> findByAuctionIdInAndReplayedAtIsNull(Collection<Integer> auctionIds);
+
+    long countByReplayedAtIsNull();
+}
@@ -0,0 +1,23 @@
+package com.rabbit.auction.repository;
+
+import com.rabbit.auction.domain.entity.AuctionEndTimer;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+public interface AuctionEndTimerRepository extends JpaRepository<AuctionEndTimer, Integer> {
+
+    // 종료 시각이 지난 예약을 잠금 (다른 서버가 잠근 행은 건너뜀: FOR UPDATE SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT t FROM AuctionEndTimer t WHERE t.fireAt <= :now ORDER BY t.fireAt ASC")
+    List<AuctionEndTimer> findDueForUpdate(@Param("now") ZonedDateTime now, Pageable pageable);
+}
@@ -0,0 +1,11 @@
+package com.rabbit.auction.repository;
+
+import com.rabbit.auction.domain.entity.AuctionFinalizationCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface AuctionFinalizationCheckpointRepository extends JpaRepository<AuctionFinalizationCheckpoint, Long> {
+
+    List<AuctionFinalizationCheckpoint> findByAuctionId(Integer auctionId);
+}
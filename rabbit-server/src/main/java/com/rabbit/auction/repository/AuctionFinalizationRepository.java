@@ -0,0 +1,35 @@
+package com.rabbit.auction.repository;
+
+import com.rabbit.auction.domain.entity.AuctionFinalization;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+
+public interface AuctionFinalizationRepository extends JpaRepository<AuctionFinalization, Integer> {
+
+    // 종료 처리 실행 선점 (미완료이고 선점이 없거나 만료된 경우만 갱신 → 갱신 건수로 선점 여부 판단)
+    @Transactional
+    @Modifying
+    @Query("UPDATE AuctionFinalization f SET f.leaseUntil = :leaseUntil, f.updatedAt = :now " +
+            "WHERE f.auctionId = :auctionId AND f.completedAt IS NULL AND (f.leaseUntil IS NULL OR f.leaseUntil < :now)")
+    int acquireLease(@Param("auctionId") Integer auctionId,
+                     @Param("leaseUntil") ZonedDateTime leaseUntil,
+                     @Param("now") ZonedDateTime now);
+
+    // 단계 시작 전 선점 연장 (서버가 죽으면 연장이 멈춰서 마지막 단계 시작 후 선점 유지 시간이 지나면 다른 서버가 선점 가능)
+    @Transactional
+    @Modifying
+    @Query("UPDATE AuctionFinalization f SET f.leaseUntil = :leaseUntil " +
+            "WHERE f.auctionId = :auctionId AND f.completedAt IS NULL AND f.leaseUntil IS NOT NULL")
+    int renewLease(@Param("auctionId") Integer auctionId,
+                   @Param("leaseUntil") ZonedDateTime leaseUntil);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE AuctionFinalization f SET f.leaseUntil = NULL WHERE f.auctionId = :auctionId")
+    int releaseLease(@Param("auctionId") Integer auctionId);
+}
@@ -0,0 +1,52 @@
+package com.rabbit.auction.repository;
+
+import com.rabbit.auction.domain.entity.AuctionListing;
+import com.rabbit.global.code.domain.enums.SysCommonCodes;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigInteger;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+public interface AuctionListingRepository extends JpaRepository<AuctionListing, Integer>, AuctionListingRepositoryCustom {
+
+    List<AuctionListing> findByTokenIdAndAuctionStatus(BigInteger tokenId, SysCommonCodes.Auction auctionStatus);
+
+    // 상환 정보가 기준 시각 이후에 동기화된 경매 ID 목록
+    @Query("SELECT l.auctionId FROM AuctionListing l " +
+            "WHERE l.auctionStatus = :status AND l.chainSyncedAt >= :syncedAfter")
+    List<Integer> findSyncedAuctionIds(@Param("status") SysCommonCodes.Auction status,
+                                       @Param("syncedAfter") ZonedDateTime syncedAfter);
+
+    @Query("SELECT l.auctionId FROM AuctionListing l WHERE l.auctionStatus = :status")
+    List<Integer> findAuctionIdsByStatus(@Param("status") SysCommonCodes.Auction status);
+
+    // 입찰 시 현재가만 갱신 (상환 정보 동기화와 덮어쓰지 않도록 컬럼 단위 갱신)
+    @Transactional
+    @Modifying
+    @Query("UPDATE AuctionListing l SET l.price = :price, l.updatedAt = :now WHERE l.auctionId = :auctionId")
+    int updatePrice(@Param("auctionId") Integer auctionId, @Param("price") Long price, @Param("now") ZonedDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE AuctionListing l SET l.auctionStatus = :status, l.updatedAt = :now WHERE l.auctionId = :auctionId")
+    int updateStatus(@Param("auctionId") Integer auctionId, @Param("status") SysCommonCodes.Auction status,
+                     @Param("now") ZonedDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE AuctionListing l SET l.remainingPrincipal = :remainingPrincipal, " +
+            "l.remainingPayments = :remainingPayments, l.defaultCount = :defaultCount, " +
+            "l.totalAmount = :totalAmount, l.chainSyncedAt = :now, l.updatedAt = :now " +
+            "WHERE l.auctionId = :auctionId")
+    int updateChainData(@Param("auctionId") Integer auctionId,
+                        @Param("remainingPrincipal") Long remainingPrincipal,
+                        @Param("remainingPayments") Integer remainingPayments,
+                        @Param("defaultCount") Integer defaultCount,
+                        @Param("totalAmount") Long totalAmount,
+                        @Param("now") ZonedDateTime now);
+}
@@ -0,0 +1,14 @@
+package com.rabbit.auction.repository;
+
+import com.rabbit.auction.domain.dto.request.AuctionFilterRequestDTO;
+import com.rabbit.auction.domain.dto.response.AuctionResponseDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+public interface AuctionListingRepositoryCustom {
+
+    /**
+     * 진행 중 경매 목록 검색 (상환 정보가 동기화된 경매만, 필터 적용 후 페이징)
+     */
+    Page<AuctionResponseDTO> searchListings(AuctionFilterRequestDTO request, Pageable pageable);
+}
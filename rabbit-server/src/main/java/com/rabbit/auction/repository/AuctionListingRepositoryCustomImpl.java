@@ -0,0 +1,110 @@
+package com.rabbit.auction.repository;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.rabbit.auction.domain.dto.request.AuctionFilterRequestDTO;
+import com.rabbit.auction.domain.dto.response.AuctionResponseDTO;
+import com.rabbit.auction.domain.entity.QAuctionListing;
+import com.rabbit.global.code.domain.enums.SysCommonCodes;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@RequiredArgsConstructor
+public class AuctionListingRepositoryCustomImpl implements AuctionListingRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public Page<AuctionResponseDTO> searchListings(AuctionFilterRequestDTO request, Pageable pageable) {
+        QAuctionListing listing = QAuctionListing.auctionListing;
+
+        // 조건 빌더 (진행 중 + 상환 정보 동기화 완료)
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(listing.auctionStatus.eq(SysCommonCodes.Auction.ING));
+        builder.and(listing.remainingPrincipal.isNotNull());
+
+        // 가격 필터링
+        if (request.getMinPrice() != null) {
+            builder.and(listing.price.goe(request.getMinPrice()));
+        }
+        if (request.getMaxPrice() != null) {
+            builder.and(listing.price.loe(request.getMaxPrice()));
+        }
+
+        // 이자율 필터링
+        if (request.getMinIr() != null) {
+            builder.and(listing.interestRate.goe(request.getMinIr().multiply(BigDecimal.valueOf(10000)).intValue()));
+        }
+        if (request.getMaxIr() != null) {
+            builder.and(listing.interestRate.loe(request.getMaxIr().multiply(BigDecimal.valueOf(10000)).intValue()));
+        }
+
+        // 상환 유형 필터링
+        if (request.getRepayType() != null && !request.getRepayType().isEmpty()) {
+            List<String> repayTypeCodes = request.getRepayType().stream()
+                    .map(displayOrder -> SysCommonCodes.Repayment.values()[displayOrder - 1].getCode())
+                    .collect(Collectors.toList());
+
+            builder.and(listing.repayType.in(repayTypeCodes));
+        }
+
+        // 만기일 필터링
+        if (request.getMatTerm() != null) {
+            ZonedDateTime now = ZonedDateTime.now();
+            ZonedDateTime endDate = null;
+
+            switch (request.getMatTerm()) {
+                case 1 -> endDate = now.plusMonths(1);
+                case 3 -> endDate = now.plusMonths(3);
+                case 6 -> endDate = now.plusMonths(6);
+                case 12 -> endDate = now.plusMonths(12);
+            }
+
+            if (endDate != null) {
+                builder.and(listing.maturityDate.loe(endDate.toLocalDate()));
+            }
+        } else if (request.getMatStart() != null && request.getMatEnd() != null) {
+            builder.and(listing.maturityDate.goe(request.getMatStart().toLocalDate()));
+            builder.and(listing.maturityDate.loe(request.getMatEnd().toLocalDate()));
+        }
+
+        List<AuctionResponseDTO> content = queryFactory
+                .select(Projections.bean(AuctionResponseDTO.class,
+                        listing.auctionId,
+                        listing.price,
+                        listing.endDate,
+                        listing.createdAt,
+                        listing.tokenId,
+                        listing.nftImageUrl,
+                        listing.earlypayFlag,
+                        listing.repayType,
+                        listing.drWallet,
+                        listing.interestRate,
+                        listing.remainingPrincipal.as("la"),
+                        listing.defaultCount.as("defCnt"),
+                        listing.totalAmount
+                ))
+                .from(listing)
+                .where(builder)
+                .orderBy(listing.endDate.asc(), listing.auctionId.asc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        Long total = queryFactory
+                .select(listing.count())
+                .from(listing)
+                .where(builder)
+                .fetchOne();
+
+        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+    }
+}
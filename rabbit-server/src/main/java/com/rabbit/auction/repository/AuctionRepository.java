@@ -22,5 +22,17 @@ public interface AuctionRepository extends JpaRepository<Auction, Integer>, Auct
     @Query("SELECT a FROM Auction a WHERE a.auctionId = :auctionId")
     Optional<Auction> findByIdForUpdate(@Param("auctionId") Integer auctionId);
 
+    @Query("SELECT a.auctionId FROM Auction a WHERE a.auctionStatus = :status")
+    List<Integer> findAuctionIdsByStatus(@Param("status") SysCommonCodes.Auction status);
+
+    // 종료 예약도, 종료 처리 기록도 없는 진행 중 경매 (예약 누락 복구용)
+    @Query("SELECT a FROM Auction a WHERE a.auctionStatus = :status " +
+            "AND NOT EXISTS (SELECT 1 FROM AuctionEndTimer t WHERE t.auctionId = a.auctionId) " +
+            "AND NOT EXISTS (SELECT 1 FROM AuctionFinalization f WHERE f.auctionId = a.auctionId)")
+    List<Auction> findUnscheduledByStatus(@Param("status") SysCommonCodes.Auction status);
+
+    @Query("SELECT a.auctionId FROM Auction a WHERE a.tokenId = :tokenId")
+    List<Integer> findAuctionIdsByTokenId(@Param("tokenId") BigInteger tokenId);
+
     boolean existsByTokenIdAndAuctionStatus(BigInteger tokenId, SysCommonCodes.Auction auction);
 }
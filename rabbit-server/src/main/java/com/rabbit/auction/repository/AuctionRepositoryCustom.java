@@ -1,10 +1,10 @@
 package com.rabbit.auction.repository;
 
 import com.rabbit.auction.domain.dto.request.AuctionFilterRequestDTO;
+import com.rabbit.auction.domain.dto.response.AuctionMyListResponseDTO;
 import com.rabbit.auction.domain.dto.response.AuctionResponseDTO;
+import com.rabbit.auction.domain.dto.response.ComparisonAuctionResponseDTO;
 import com.rabbit.auction.domain.dto.response.MyAuctionResponseDTO;
-import com.rabbit.auction.domain.entity.Auction;
-import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 
 import org.springframework.data.domain.Pageable;
@@ -24,5 +24,9 @@ public interface AuctionRepositoryCustom {
 
     Page<MyAuctionResponseDTO> getMyBidAuction(Integer userId, Pageable pageable);
 
-    List<Auction> findSimilarAuctionsByPrincipalAndDays(@Valid Integer auctionId, Long basePrincipal, Integer baseDays);
+    // 내가 등록한 경매 (NFT 이미지 포함, DB 페이지 조회)
+    Page<AuctionMyListResponseDTO> findMyAuctions(Integer userId, Pageable pageable);
+
+    // 수익률 분포 계산용 낙찰 경매 (잔여 원금/잔여 상환일/수익률이 모두 있는 경매만)
+    List<ComparisonAuctionResponseDTO> findCompletedReturnRates();
 }
@@ -11,9 +11,10 @@ import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.rabbit.auction.domain.dto.request.AuctionFilterRequestDTO;
+import com.rabbit.auction.domain.dto.response.AuctionMyListResponseDTO;
 import com.rabbit.auction.domain.dto.response.AuctionResponseDTO;
+import com.rabbit.auction.domain.dto.response.ComparisonAuctionResponseDTO;
 import com.rabbit.auction.domain.dto.response.MyAuctionResponseDTO;
-import com.rabbit.auction.domain.entity.Auction;
 import com.rabbit.auction.domain.entity.QAuction;
 import com.rabbit.auction.domain.entity.QBid;
 import com.rabbit.global.code.domain.enums.SysCommonCodes;
@@ -164,10 +165,43 @@ public class AuctionRepositoryCustomImpl implements AuctionRepositoryCustom {
         return new PageImpl<>(content, pageable, total != null ? total : 0L);
     }
 
+    @Override
+    public Page<AuctionMyListResponseDTO> findMyAuctions(Integer userId, Pageable pageable) {
+        QAuction auction = QAuction.auction;
+        QPromissoryNoteEntity promissoryNote = QPromissoryNoteEntity.promissoryNoteEntity;
+
+        // 양도자 조건과 NFT 이미지를 한 번에 조회
+        List<AuctionMyListResponseDTO> content = queryFactory
+                .select(Projections.constructor(AuctionMyListResponseDTO.class,
+                        auction.auctionId,
+                        auction.price,
+                        auction.endDate,
+                        auction.tokenId,
+                        promissoryNote.nftImage,
+                        auction.auctionStatus
+                ))
+                .from(auction)
+                .leftJoin(promissoryNote).on(auction.tokenId.eq(promissoryNote.tokenId))
+                .where(auction.assignor.userId.eq(userId))
+                .orderBy(auction.createdAt.desc(), auction.auctionId.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        Long total = queryFactory
+                .select(auction.count())
+                .from(auction)
+                .where(auction.assignor.userId.eq(userId))
+                .fetchOne();
+
+        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+    }
+
     public Page<MyAuctionResponseDTO> getMyBidAuction(Integer userId, Pageable pageable){
         QAuction auction = QAuction.auction;
         QBid bid=QBid.bid;
         QBid subBid = new QBid("subBid");
+        QPromissoryNoteEntity promissoryNote = QPromissoryNoteEntity.promissoryNoteEntity;
 
         //경매당 가장 최근 입찰 1건 추려내기
         JPQLQuery<Tuple> latestBids = JPAExpressions
@@ -195,10 +229,12 @@ public class AuctionRepositoryCustomImpl implements AuctionRepositoryCustom {
                         JPAExpressions
                                 .select(subBid.count())
                                 .from(subBid)
-                                .where(subBid.auction.auctionId.eq(auction.auctionId))
+                                .where(subBid.auction.auctionId.eq(auction.auctionId)),
+                        promissoryNote.nftImage
                 ))
                 .from(bid)
                 .join(bid.auction, auction)
+                .leftJoin(promissoryNote).on(auction.tokenId.eq(promissoryNote.tokenId))
                 .where(
                         Expressions.list(bid.auction.auctionId, bid.createdAt)
                                 .in(latestBids)
@@ -218,26 +254,22 @@ public class AuctionRepositoryCustomImpl implements AuctionRepositoryCustom {
     }
 
     @Override
-    public List<Auction> findSimilarAuctionsByPrincipalAndDays(Integer targetId, Long basePrincipal, Integer baseDays) {
+    public List<ComparisonAuctionResponseDTO> findCompletedReturnRates() {
         QAuction auction = QAuction.auction;
 
-        BigDecimal principal = BigDecimal.valueOf(basePrincipal);
-
-        return queryFactory.selectFrom(auction)
+        return queryFactory
+                .select(Projections.constructor(ComparisonAuctionResponseDTO.class,
+                        auction.auctionId,
+                        auction.remainPrincipal,
+                        auction.remainRepaymentDate,
+                        auction.returnRate))
+                .from(auction)
                 .where(
                         auction.auctionStatus.eq(SysCommonCodes.Auction.COMPLETED),
-                        auction.auctionId.ne(targetId),
-                        auction.remainPrincipal.between(
-                                principal.multiply(BigDecimal.valueOf(0.9)),
-                                principal.multiply(BigDecimal.valueOf(1.1))
-                        ),
-                        auction.remainRepaymentDate.between(
-                                (int)(baseDays * 0.9),
-                                (int)(baseDays * 1.1)
-                        )
+                        auction.remainPrincipal.isNotNull(),
+                        auction.remainRepaymentDate.isNotNull(),
+                        auction.returnRate.isNotNull()
                 )
-                .orderBy(auction.returnRate.asc())
                 .fetch();
     }
 }
-
@@ -0,0 +1,44 @@
+package com.rabbit.auction.repository;
+
+import com.rabbit.auction.domain.entity.BidOutbox;
+import com.rabbit.global.code.domain.enums.SysCommonCodes;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface BidOutboxRepository extends JpaRepository<BidOutbox, Long> {
+
+    List<BidOutbox> findByStatusOrderByOutboxIdAsc(SysCommonCodes.BidSettlement status, Pageable pageable);
+
+    List<BidOutbox> findByStatusAndUpdatedAtBeforeOrderByOutboxIdAsc(SysCommonCodes.BidSettlement status,
+                                                                     ZonedDateTime updatedAt, Pageable pageable);
+
+    boolean existsByAuctionIdAndStatus(Integer auctionId, SysCommonCodes.BidSettlement status);
+
+    boolean existsByAuctionIdAndStatusIn(Integer auctionId, Collection<SysCommonCodes.BidSettlement> statuses);
+
+    // 상태 조건부 전이 (여러 서버가 같은 행을 동시에 가져가지 않도록 갱신 건수로 선점 여부 판단)
+    @Transactional
+    @Modifying
+    @Query("UPDATE BidOutbox o SET o.status = :to, o.updatedAt = :now WHERE o.outboxId = :outboxId AND o.status = :from")
+    int transition(@Param("outboxId") Long outboxId,
+                   @Param("from") SysCommonCodes.BidSettlement from,
+                   @Param("to") SysCommonCodes.BidSettlement to,
+                   @Param("now") ZonedDateTime now);
+
+    // 오래된 SUBMITTED 행 선점 (조회 시점의 updatedAt 그대로일 때만 갱신 → 여러 서버 중 한 곳만 처리)
+    @Transactional
+    @Modifying
+    @Query("UPDATE BidOutbox o SET o.updatedAt = :now WHERE o.outboxId = :outboxId AND o.status = :status AND o.updatedAt = :seen")
+    int claim(@Param("outboxId") Long outboxId,
+              @Param("status") SysCommonCodes.BidSettlement status,
+              @Param("seen") ZonedDateTime seen,
+              @Param("now") ZonedDateTime now);
+}
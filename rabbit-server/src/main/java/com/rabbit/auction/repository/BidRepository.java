@@ -2,9 +2,14 @@ package com.rabbit.auction.repository;
 
 import com.rabbit.auction.domain.entity.Auction;
 import com.rabbit.auction.domain.entity.Bid;
+import com.rabbit.global.code.domain.enums.SysCommonCodes;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 
 @Repository
@@ -14,4 +19,23 @@ public interface BidRepository extends JpaRepository<Bid, Integer> {
     List<Bid> findAllByAuction_AuctionIdOrderByCreatedAtDesc(Integer auctionId);
 
     List<Bid> findAllByAuction_AuctionIdOrderByBidAmountDescCreatedAtAsc(Integer auctionId);
+
+    // 입찰 내역 첫 페이지 (최신순, 제외 상태 입찰 제외)
+    @Query("SELECT b FROM Bid b WHERE b.auction.auctionId = :auctionId " +
+            "AND (b.settlementStatus IS NULL OR b.settlementStatus <> :excluded) " +
+            "ORDER BY b.createdAt DESC, b.bidId DESC")
+    List<Bid> findLatestBids(@Param("auctionId") Integer auctionId,
+                             @Param("excluded") SysCommonCodes.BidSettlement excluded,
+                             Pageable pageable);
+
+    // 입찰 내역 다음 페이지 ((createdAt, bidId) 커서 이전 입찰)
+    @Query("SELECT b FROM Bid b WHERE b.auction.auctionId = :auctionId " +
+            "AND (b.settlementStatus IS NULL OR b.settlementStatus <> :excluded) " +
+            "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.bidId < :bidId)) " +
+            "ORDER BY b.createdAt DESC, b.bidId DESC")
+    List<Bid> findBidsBefore(@Param("auctionId") Integer auctionId,
+                             @Param("excluded") SysCommonCodes.BidSettlement excluded,
+                             @Param("createdAt") ZonedDateTime createdAt,
+                             @Param("bidId") Integer bidId,
+                             Pageable pageable);
 }
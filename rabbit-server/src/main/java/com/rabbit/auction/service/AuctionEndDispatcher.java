@@ -0,0 +1,85 @@
+package com.rabbit.auction.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rabbit.auction.domain.dto.AuctionRetryMessage;
+import com.rabbit.auction.domain.entity.AuctionEndTimer;
+import com.rabbit.auction.repository.AuctionEndTimerRepository;
+import com.rabbit.global.config.RabbitMQConfig;
+import com.rabbit.global.exception.BusinessException;
+import com.rabbit.global.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * 종료 시각이 지난 경매 예약을 종료 처리 큐로 발송
+ * - 예약 행을 SKIP LOCKED 로 잠가서 여러 서버가 동시에 폴링해도 같은 경매를 두 번 보내지 않음
+ * - 메시지 발송과 예약 삭제를 한 트랜잭션에서 처리 (발송 실패 시 예약이 남아 다음 폴링에서 재시도)
+ */
+@Slf4j
+@Component
+public class AuctionEndDispatcher {
+
+    private final AuctionEndTimerRepository auctionEndTimerRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper;
+    private final Timer dispatchLagTimer;
+
+    public AuctionEndDispatcher(AuctionEndTimerRepository auctionEndTimerRepository,
+                                RabbitTemplate rabbitTemplate,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry) {
+        this.auctionEndTimerRepository = auctionEndTimerRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.objectMapper = objectMapper;
+        this.dispatchLagTimer = Timer.builder("auction.end.dispatch.lag")
+                .description("경매 종료 시각부터 종료 처리 메시지 발송까지 걸린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 종료 시각이 지난 예약을 최대 batchSize 건 발송
+     * @return 발송한 건수
+     */
+    @Transactional
+    public int dispatchDue(int batchSize) {
+        ZonedDateTime now = ZonedDateTime.now();
+        List<AuctionEndTimer> dueTimers = auctionEndTimerRepository.findDueForUpdate(now, PageRequest.of(0, batchSize));
+
+        for (AuctionEndTimer timer : dueTimers) {
+            AuctionRetryMessage message = AuctionRetryMessage.builder()
+                    .auctionId(timer.getAuctionId())
+                    .retryCount(0)
+                    .build();
+
+            String jsonMessage;
+            try {
+                jsonMessage = objectMapper.writeValueAsString(message);
+            } catch (JsonProcessingException e) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "경매 메시지 직렬화 실패");
+            }
+
+            rabbitTemplate.convertAndSend(
+                    RabbitMQConfig.DEAD_EXCHANGE,
+                    RabbitMQConfig.ROUTING_KEY,
+                    jsonMessage
+            );
+
+            dispatchLagTimer.record(Duration.between(timer.getFireAt(), now));
+            log.info("[경매 종료 예약 발송] auctionId={}, endDate={}", timer.getAuctionId(), timer.getFireAt());
+        }
+
+        auctionEndTimerRepository.deleteAllInBatch(dueTimers);
+        return dueTimers.size();
+    }
+}
@@ -0,0 +1,141 @@
+package com.rabbit.auction.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rabbit.auction.domain.dto.AuctionRetryMessage;
+import com.rabbit.auction.domain.dto.response.ParkedAuctionEndResponseDTO;
+import com.rabbit.auction.domain.entity.AuctionEndParking;
+import com.rabbit.auction.repository.AuctionEndParkingRepository;
+import com.rabbit.global.config.RabbitMQConfig;
+import com.rabbit.global.exception.BusinessException;
+import com.rabbit.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * 경매 종료 실패 재시도 / 보관 처리
+ * - 실패 횟수에 따라 점점 긴 대기 큐(5초 → 30초 → 2분 → 10분 → 30분)로 보내고, 모두 소진하면 DB에 보관
+ * - 대기 시간은 단계별 큐 TTL 만 사용 (메시지별 TTL 은 큐 맨 앞에서만 만료되어 뒤 메시지가 앞 메시지를 기다리게 됨)
+ */
+@Slf4j
+@Service
+public class AuctionEndRetryService {
+
+    private final AuctionEndParkingRepository auctionEndParkingRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Counter parkedCounter;
+
+    public AuctionEndRetryService(AuctionEndParkingRepository auctionEndParkingRepository,
+                                  RabbitTemplate rabbitTemplate,
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.auctionEndParkingRepository = auctionEndParkingRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.parkedCounter = Counter.builder("auction.end.parked.total")
+                .description("재시도를 모두 소진해 보관된 경매 종료 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("auction.end.parked", auctionEndParkingRepository, AuctionEndParkingRepository::countByReplayedAtIsNull)
+                .description("재처리 대기 중인 보관 건수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 다음 재시도 단계로 보내거나, 단계를 모두 소진했으면 보관
+     */
+    public void retryOrPark(AuctionRetryMessage message, String error) {
+        int tier = message.getRetryCount();
+        if (tier >= RabbitMQConfig.RETRY_DELAYS_MS.length) {
+            park(message, error);
+            return;
+        }
+
+        AuctionRetryMessage retryMessage = AuctionRetryMessage.builder()
+                .auctionId(message.getAuctionId())
+                .retryCount(tier + 1)
+                .build();
+
+        rabbitTemplate.convertAndSend("", RabbitMQConfig.retryQueue(tier), serialize(retryMessage));
+
+        Counter.builder("auction.end.retries")
+                .description("경매 종료 재시도 수 (단계별)")
+                .tag("tier", String.valueOf(tier + 1))
+                .register(meterRegistry)
+                .increment();
+
+        log.info("[재시도 전송] auctionId={}, retryCount={}, delayMs={}", retryMessage.getAuctionId(), retryMessage.getRetryCount(), RabbitMQConfig.RETRY_DELAYS_MS[tier]);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ParkedAuctionEndResponseDTO> getParked() {
+        return auctionEndParkingRepository.findByReplayedAtIsNullOrderByParkedAtAsc().stream()
+                .map(parking -> ParkedAuctionEndResponseDTO.builder()
+                        .parkingId(parking.getParkingId())
+                        .auctionId(parking.getAuctionId())
+                        .retryCount(parking.getRetryCount())
+                        .lastError(parking.getLastError())
+                        .parkedAt(parking.getParkedAt())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * 보관된 경매 종료 요청 재처리 (auctionIds 가 비어 있으면 전체)
+     * - 재시도 횟수를 0으로 되돌려 종료 처리 큐로 다시 보냄 (종료 처리는 완료된 단계를 건너뛰므로 중복 실행에 안전)
+     * @return 재처리한 경매 수
+     */
+    @Transactional
+    public int replay(List<Integer> auctionIds) {
+        List<AuctionEndParking> parked = (auctionIds == null || auctionIds.isEmpty())
+                ? auctionEndParkingRepository.findByReplayedAtIsNullOrderByParkedAtAsc()
+                : auctionEndParkingRepository.findByAuctionIdInAndReplayedAtIsNull(auctionIds);
+
+        List<Integer> replayedAuctionIds = parked.stream()
+                .map(AuctionEndParking::getAuctionId)
+                .distinct()
+                .toList();
+
+        for (Integer auctionId : replayedAuctionIds) {
+            AuctionRetryMessage message = AuctionRetryMessage.builder()
+                    .auctionId(auctionId)
+                    .retryCount(0)
+                    .build();
+            rabbitTemplate.convertAndSend(RabbitMQConfig.DEAD_EXCHANGE, RabbitMQConfig.ROUTING_KEY, serialize(message));
+        }
+        parked.forEach(AuctionEndParking::markReplayed);
+
+        log.info("[보관 재처리] {}건", replayedAuctionIds.size());
+        return replayedAuctionIds.size();
+    }
+
+    private void park(AuctionRetryMessage message, String error) {
+        auctionEndParkingRepository.save(AuctionEndParking.builder()
+                .auctionId(message.getAuctionId())
+                .retryCount(message.getRetryCount())
+                .lastError(error)
+                .parkedAt(ZonedDateTime.now())
+                .build());
+        parkedCounter.increment();
+
+        log.error("[재시도 중단 - 보관] auctionId={}, retryCount={}, error={}", message.getAuctionId(), message.getRetryCount(), error);
+    }
+
+    private String serialize(AuctionRetryMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "경매 종료 메시지 직렬화 실패");
+        }
+    }
+}
@@ -0,0 +1,552 @@
+package com.rabbit.auction.service;
+
+import com.rabbit.auction.cache.AuctionDetailCache;
+import com.rabbit.auction.domain.entity.Auction;
+import com.rabbit.auction.domain.entity.AuctionFinalization;
+import com.rabbit.auction.domain.entity.AuctionFinalizationCheckpoint;
+import com.rabbit.auction.domain.entity.Bid;
+import com.rabbit.auction.domain.enums.AuctionFinalizationStep;
+import com.rabbit.auction.repository.AuctionFinalizationCheckpointRepository;
+import com.rabbit.auction.repository.AuctionFinalizationRepository;
+import com.rabbit.auction.repository.AuctionRepository;
+import com.rabbit.auction.repository.BidOutboxRepository;
+import com.rabbit.auction.repository.BidRepository;
+import com.rabbit.blockchain.gateway.RpcEndpointRouter;
+import com.rabbit.blockchain.service.PromissoryNoteAuctionService;
+import com.rabbit.blockchain.service.PromissoryNoteService;
+import com.rabbit.blockchain.service.RepaymentSchedulerService;
+import com.rabbit.blockchain.wrapper.PromissoryNoteAuction;
+import com.rabbit.blockchain.wrapper.RepaymentScheduler;
+import com.rabbit.contract.service.ContractService;
+import com.rabbit.global.code.domain.enums.SysCommonCodes;
+import com.rabbit.global.config.AsyncConfig;
+import com.rabbit.global.exception.BusinessException;
+import com.rabbit.global.exception.ErrorCode;
+import com.rabbit.global.ipfs.PinataUploader;
+import com.rabbit.global.util.IntegrityHashUtil;
+import com.rabbit.mail.service.ExtendedMailService;
+import com.rabbit.notification.domain.dto.request.NotificationRequestDTO;
+import com.rabbit.notification.service.NotificationService;
+import com.rabbit.user.domain.dto.response.ProfileInfoResponseDTO;
+import com.rabbit.user.domain.entity.MetamaskWallet;
+import com.rabbit.user.domain.entity.User;
+import com.rabbit.user.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 경매 종료 처리 파이프라인
+ * - 단계마다 완료 기록(checkpoint)을 남겨서 재시도 시 실패한 단계부터 이어서 실행
+ * - 체인 단계는 순서대로: 계약서 업로드 → finalizeAuction (유찰이면 cancelAuction)
+ * - 체인 단계 확정 후 알림/메일/통지서 단계는 서로 독립적이라 병렬로 실행
+ * - 체인 단계 재시도 전에는 경매 컨트랙트의 예치자 정보로 이미 처리됐는지 확인해서 중복 전송을 막음
+ */
+@Slf4j
+@Service
+public class AuctionFinalizationService {
+
+    private static final String ZERO_ADDRESS = "0x0000000000000000000000000000000000000000";
+
+    private final AuctionRepository auctionRepository;
+    private final BidRepository bidRepository;
+    private final BidOutboxRepository bidOutboxRepository;
+    private final AuctionFinalizationRepository auctionFinalizationRepository;
+    private final AuctionFinalizationCheckpointRepository checkpointRepository;
+    private final PromissoryNoteAuctionService promissoryNoteAuctionService;
+    private final PromissoryNoteService promissoryNoteService;
+    private final RepaymentSchedulerService repaymentSchedulerService;
+    private final UserService userService;
+    private final ContractService contractService;
+    private final NotificationService notificationService;
+    private final ExtendedMailService extendedMailService;
+    private final PinataUploader pinataUploader;
+    private final AuctionTransferPdfService auctionTransferPdfService;
+    private final AuctionTransferNoticePdfService auctionTransferNoticePdfService;
+    private final AuctionListingService auctionListingService;
+    private final BidSequencer bidSequencer;
+    private final AuctionDetailCache auctionDetailCache;
+    private final ReturnRateSketchService returnRateSketchService;
+    private final ThreadPoolTaskExecutor finalizationExecutor;
+    private final Timer finalizeLatencyTimer;
+
+    @Value("${auction.finalization.lease-seconds:900}")
+    private long leaseSeconds;
+
+    public AuctionFinalizationService(AuctionRepository auctionRepository,
+                                      BidRepository bidRepository,
+                                      BidOutboxRepository bidOutboxRepository,
+                                      AuctionFinalizationRepository auctionFinalizationRepository,
+                                      AuctionFinalizationCheckpointRepository checkpointRepository,
+                                      PromissoryNoteAuctionService promissoryNoteAuctionService,
+                                      PromissoryNoteService promissoryNoteService,
+                                      RepaymentSchedulerService repaymentSchedulerService,
+                                      UserService userService,
+                                      ContractService contractService,
+                                      NotificationService notificationService,
+                                      ExtendedMailService extendedMailService,
+                                      PinataUploader pinataUploader,
+                                      AuctionTransferPdfService auctionTransferPdfService,
+                                      AuctionTransferNoticePdfService auctionTransferNoticePdfService,
+                                      AuctionListingService auctionListingService,
+                                      BidSequencer bidSequencer,
+                                      AuctionDetailCache auctionDetailCache,
+                                      ReturnRateSketchService returnRateSketchService,
+                                      @Qualifier(AsyncConfig.FINALIZATION_EXECUTOR) ThreadPoolTaskExecutor finalizationExecutor,
+                                      MeterRegistry meterRegistry) {
+        this.auctionRepository = auctionRepository;
+        this.bidRepository = bidRepository;
+        this.bidOutboxRepository = bidOutboxRepository;
+        this.auctionFinalizationRepository = auctionFinalizationRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.promissoryNoteAuctionService = promissoryNoteAuctionService;
+        this.promissoryNoteService = promissoryNoteService;
+        this.repaymentSchedulerService = repaymentSchedulerService;
+        this.userService = userService;
+        this.contractService = contractService;
+        this.notificationService = notificationService;
+        this.extendedMailService = extendedMailService;
+        this.pinataUploader = pinataUploader;
+        this.auctionTransferPdfService = auctionTransferPdfService;
+        this.auctionTransferNoticePdfService = auctionTransferNoticePdfService;
+        this.auctionListingService = auctionListingService;
+        this.bidSequencer = bidSequencer;
+        this.auctionDetailCache = auctionDetailCache;
+        this.returnRateSketchService = returnRateSketchService;
+        this.finalizationExecutor = finalizationExecutor;
+        this.finalizeLatencyTimer = Timer.builder("auction.finalize.latency")
+                .description("경매 마감 시각부터 종료 처리 완료까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 경매 종료 처리 (처음 실행 또는 실패한 단계부터 재개)
+     * - 경매별 실행 선점(lease)을 얻은 서버만 실행하고, 단계마다 선점을 연장
+     * - 다른 서버가 선점 중이면 재시도 대상 예외 (선점한 서버가 죽었으면 선점이 만료된 뒤의 재시도에서 이어서 실행)
+     */
+    public void finalizeAuction(Integer auctionId) {
+        log.info("경매 종료 처리 시작 - auctionId={}", auctionId);
+
+        Auction auction = auctionRepository.findById(auctionId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "해당 경매를 찾을 수 없습니다."));
+
+        AuctionFinalization existing = auctionFinalizationRepository.findById(auctionId)
+                .orElseGet(() -> prepareOrFind(auction));
+
+        if (existing.getCompletedAt() != null) {
+            log.info("이미 종료 처리된 경매입니다 - auctionId={}", auctionId);
+            return;
+        }
+
+        ZonedDateTime now = ZonedDateTime.now();
+        if (auctionFinalizationRepository.acquireLease(auctionId, now.plusSeconds(leaseSeconds), now) == 0) {
+            // 선점 시도 직전에 다른 서버가 완료했을 수 있음
+            boolean completed = auctionFinalizationRepository.findById(auctionId)
+                    .map(finalization -> finalization.getCompletedAt() != null)
+                    .orElse(false);
+            if (completed) {
+                log.info("이미 종료 처리된 경매입니다 - auctionId={}", auctionId);
+                return;
+            }
+            log.info("다른 서버에서 종료 처리 중인 경매입니다 - auctionId={}", auctionId);
+            throw new BusinessException(ErrorCode.BUSINESS_LOGIC_ERROR, "다른 서버에서 종료 처리 중인 경매입니다.");
+        }
+
+        try {
+            // 선점 후 상태를 다시 읽어 이후 저장에서 선점 정보를 덮어쓰지 않도록 함
+            AuctionFinalization finalization = auctionFinalizationRepository.findById(auctionId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "경매 종료 처리 정보를 찾을 수 없습니다."));
+            run(auction, finalization);
+        } finally {
+            auctionFinalizationRepository.releaseLease(auctionId);
+        }
+    }
+
+    private void run(Auction auction, AuctionFinalization finalization) {
+        Integer auctionId = auction.getAuctionId();
+
+        Set<AuctionFinalizationStep> completedSteps = ConcurrentHashMap.newKeySet();
+        checkpointRepository.findByAuctionId(auctionId).forEach(checkpoint -> completedSteps.add(checkpoint.getStep()));
+
+        finalization.startAttempt();
+        auctionFinalizationRepository.save(finalization);
+
+        try {
+            if (finalization.getOutcome() == SysCommonCodes.Auction.FAILED) {
+                runFailed(auction, finalization, completedSteps);
+            } else {
+                runCompleted(auction, finalization, completedSteps);
+            }
+
+            finalization.complete();
+            auctionFinalizationRepository.save(finalization);
+            // 양도로 채권자/메타데이터가 바뀌었으므로 상세 캐시를 다시 무효화
+            auctionDetailCache.invalidate(auctionId);
+            if (finalization.getOutcome() == SysCommonCodes.Auction.COMPLETED) {
+                // 유사 경매 수익률 분포에 반영
+                returnRateSketchService.add(auction);
+            }
+            finalizeLatencyTimer.record(Duration.between(auction.getEndDate(), ZonedDateTime.now()));
+            log.info("경매 종료 처리 완료 - auctionId={}, 결과={}, 시도={}", auctionId, finalization.getOutcome(), finalization.getAttemptCount());
+        } catch (RuntimeException e) {
+            finalization.fail(e.getMessage());
+            auctionFinalizationRepository.save(finalization);
+            throw e;
+        }
+    }
+
+    // 다른 서버가 동시에 첫 실행 정보를 저장했으면 그 값을 사용
+    private AuctionFinalization prepareOrFind(Auction auction) {
+        try {
+            return prepare(auction);
+        } catch (DataIntegrityViolationException e) {
+            return auctionFinalizationRepository.findById(auction.getAuctionId())
+                    .orElseThrow(() -> e);
+        }
+    }
+
+    // 첫 실행: 낙찰자와 계약서 기재 정보를 고정
+    private AuctionFinalization prepare(Auction auction) {
+        Integer auctionId = auction.getAuctionId();
+
+        if (auction.getAuctionStatus() != SysCommonCodes.Auction.ING) {
+            throw new BusinessException(ErrorCode.BUSINESS_LOGIC_ERROR, "진행중인 경매가 아닙니다.");
+        }
+
+        // 확정 대기 중인 입찰이 있으면 예치가 끝난 뒤 다시 처리 (재시도 대상)
+        if (bidOutboxRepository.existsByAuctionIdAndStatusIn(auctionId,
+                List.of(SysCommonCodes.BidSettlement.PENDING, SysCommonCodes.BidSettlement.SUBMITTED))) {
+            throw new BusinessException(ErrorCode.BUSINESS_LOGIC_ERROR, "확정 대기 중인 입찰이 있습니다.");
+        }
+
+        // 예치에 실패해 거절된 입찰은 낙찰 대상에서 제외
+        Bid winningBid = bidRepository.findAllByAuction_AuctionIdOrderByBidAmountDescCreatedAtAsc(auctionId).stream()
+                .filter(bid -> bid.getSettlementStatus() != SysCommonCodes.BidSettlement.REJECTED)
+                .findFirst()
+                .orElse(null);
+
+        AuctionFinalization.AuctionFinalizationBuilder builder = AuctionFinalization.builder()
+                .auctionId(auctionId)
+                .attemptCount(0)
+                .agreementDate(LocalDate.now())
+                .createdAt(ZonedDateTime.now());
+
+        if (winningBid == null) {   //낙찰자가 없는 경우
+            builder.outcome(SysCommonCodes.Auction.FAILED);
+        } else {
+            // 상환 정보 조회 (남은 원금)
+            RepaymentScheduler.RepaymentInfo repaymentInfo;
+            try {
+                repaymentInfo = repaymentSchedulerService.getLatestPaymentInfo(auction.getTokenId());
+            } catch (Exception e) {
+                log.error("상환정보 조회 오류: {}", e.getMessage(), e);
+                throw new BusinessException(ErrorCode.BLOCKCHAIN_REPAYMENT_FAIL, "블록체인에서 상환 조회에 실패했습니다.");
+            }
+
+            builder.outcome(SysCommonCodes.Auction.COMPLETED)
+                    .winnerUserId(winningBid.getUserId())
+                    .winningBidAmount(winningBid.getBidAmount())
+                    .remainingPrincipal(repaymentInfo.remainingPrincipal);
+        }
+
+        return auctionFinalizationRepository.save(builder.build());
+    }
+
+    // 유찰: 체인 경매 취소 → 상태 변경 → 양도자 알림
+    private void runFailed(Auction auction, AuctionFinalization finalization, Set<AuctionFinalizationStep> completedSteps) {
+        Integer auctionId = auction.getAuctionId();
+
+        runStep(auctionId, AuctionFinalizationStep.CANCELED_ON_CHAIN, completedSteps, () -> {
+            if (isSettledOnChain(auction.getTokenId())) {
+                log.info("체인에서 이미 취소된 경매입니다 - auctionId={}", auctionId);
+            } else {
+                try {
+                    // 경매 컨트랙트의 cancelAuction으로 경매 취소
+                    TransactionReceipt receipt = promissoryNoteAuctionService.cancelAuction(auction.getTokenId());
+
+                    // 트랜잭션 성공 여부 확인
+                    boolean isSuccess = "0x1".equals(receipt.getStatus());
+                    if (isSuccess) {
+                        log.info("경매 취소 성공");
+                    } else {
+                        log.error("경매 취소 실패. 트랜잭션 상태: {}", receipt.getStatus());
+                    }
+                    finalization.recordTransaction(receipt.getTransactionHash());
+                } catch (Exception e) {
+                    log.error("경매 취소 블록체인 오류: {}", e.getMessage(), e);
+                    throw new BusinessException(ErrorCode.BLOCKCHAIN_AUCTION_CANCEL_FAIL, "블록체인에서 경매 취소에 실패했습니다.");
+                }
+            }
+
+            auction.setAuctionStatus(SysCommonCodes.Auction.FAILED);
+            closeAuction(auction);
+        });
+
+        //양도자에게 알림
+        runStep(auctionId, AuctionFinalizationStep.SELLER_FAILED_NOTIFIED, completedSteps, () ->
+                notificationService.createNotification(
+                        NotificationRequestDTO.builder()
+                                .userId(auction.getAssignor().getUserId())
+                                .type(SysCommonCodes.NotificationType.AUCTION_FAILED)
+                                .relatedId(auctionId)
+                                .relatedType(SysCommonCodes.NotificationRelatedType.AUCTION)
+                                .build()
+                ));
+    }
+
+    // 낙찰: 계약서 업로드 → 체인 낙찰 → 상태/채권자 변경 → 알림/메일 병렬
+    private void runCompleted(Auction auction, AuctionFinalization finalization, Set<AuctionFinalizationStep> completedSteps) {
+        Integer auctionId = auction.getAuctionId();
+        FinalizationContext context = loadContext(auction, finalization);
+
+        // pdf 만들어서 pinata에 업로드하기
+        runStep(auctionId, AuctionFinalizationStep.TRANSFER_PDF_UPLOADED, completedSteps, () -> {
+            String pdfFileName = "양도양수계약서_" + auctionId + ".pdf";
+            String pdfUrl = pinataUploader.uploadContent(context.transferPdf(), pdfFileName, "application/pdf");
+            finalization.recordUpload(pdfUrl);
+            auctionFinalizationRepository.save(finalization);
+        });
+
+        // 부속 nft 발행
+        runStep(auctionId, AuctionFinalizationStep.FINALIZED_ON_CHAIN, completedSteps, () -> {
+            if (isSettledOnChain(auction.getTokenId())) {
+                log.info("체인에서 이미 낙찰 처리된 경매입니다 - auctionId={}", auctionId);
+            } else {
+                finalizeOnChain(auction, finalization, context);
+            }
+
+            auction.updatePriceAndBidder(finalization.getWinningBidAmount(), finalization.getWinnerUserId());
+            auction.setContractIpfsUrl(finalization.getContractIpfsUrl());
+            auction.setAuctionStatus(SysCommonCodes.Auction.COMPLETED);
+            closeAuction(auction);
+        });
+
+        //차용증 현재 채권자 정보 변경
+        runStep(auctionId, AuctionFinalizationStep.CREDITOR_CHANGED, completedSteps, () ->
+                contractService.changeCreditorByTokenId(auction.getTokenId(), finalization.getWinnerUserId()));
+
+        // 이후 단계는 서로 독립적이라 병렬 실행
+        Map<AuctionFinalizationStep, Runnable> sideEffects = new LinkedHashMap<>();
+
+        // 낙찰자에게 성공 알림
+        sideEffects.put(AuctionFinalizationStep.WINNER_NOTIFIED, () -> notificationService.createNotification(
+                NotificationRequestDTO.builder()
+                        .userId(finalization.getWinnerUserId())
+                        .type(SysCommonCodes.NotificationType.AUCTION_SUCCESS)
+                        .relatedId(auctionId)
+                        .relatedType(SysCommonCodes.NotificationRelatedType.AUCTION)
+                        .build()
+        ));
+
+        sideEffects.put(AuctionFinalizationStep.WINNER_MAILED, () -> extendedMailService.sendAuctionContractToAssignee(
+                context.winner().getEmail(),
+                context.winner().getUserName(),
+                auction.getTokenId(),
+                context.transferPdf()
+        ));
+
+        // 양도자에게 전송 예정 알림
+        sideEffects.put(AuctionFinalizationStep.SELLER_NOTIFIED, () -> notificationService.createNotification(
+                NotificationRequestDTO.builder()
+                        .userId(auction.getAssignor().getUserId())
+                        .type(SysCommonCodes.NotificationType.AUCTION_TRANSFERRED)
+                        .relatedId(auctionId)
+                        .relatedType(SysCommonCodes.NotificationRelatedType.AUCTION)
+                        .build()
+        ));
+
+        sideEffects.put(AuctionFinalizationStep.SELLER_MAILED, () -> extendedMailService.sendAuctionContractToAssignor(
+                context.seller().getEmail(),
+                context.seller().getUserName(),
+                auction.getTokenId(),
+                context.transferPdf()
+        ));
+
+        // 채무자에게 알림 메일 전송
+        sideEffects.put(AuctionFinalizationStep.DEBTOR_NOTICE_MAILED, () -> {
+            byte[] noticePdfBytes = auctionTransferNoticePdfService.generateTransferNoticePdf(
+                    context.grantor().getUserName(),               // 양도인
+                    context.grantor().getWalletAddress(),
+                    context.grantee().getUserName(),               // 양수인
+                    context.grantee().getWalletAddress(),
+                    context.debtor().getUserName(),                // 제3채무자
+                    context.debtorWallet().getWalletAddress(),
+                    new BigDecimal(finalization.getRemainingPrincipal()), // 채권 금액
+                    finalization.getAgreementDate()                // 통지일자
+            );
+
+            extendedMailService.sendAuctionTransferNoticeEmail(
+                    context.debtor().getEmail(),
+                    context.debtor().getUserName(),
+                    context.grantee().getUserName(),
+                    noticePdfBytes,
+                    context.transferPdf(),
+                    auctionId
+            );
+        });
+
+        runInParallel(auctionId, sideEffects, completedSteps);
+    }
+
+    private void finalizeOnChain(Auction auction, AuctionFinalization finalization, FinalizationContext context) {
+        ProfileInfoResponseDTO grantor = context.grantor();
+        ProfileInfoResponseDTO grantee = context.grantee();
+
+        // 해시값 구하기
+        String grantorHash = IntegrityHashUtil.generateIntegrityHash(grantor.getUserName(), grantor.getEmail(), grantor.getWalletAddress());
+        String granteeHash = IntegrityHashUtil.generateIntegrityHash(grantee.getUserName(), grantee.getEmail(), grantee.getWalletAddress());
+
+        try {
+            // 메타데이터 생성
+            PromissoryNoteAuction.AppendixMetadata metadata = new PromissoryNoteAuction.AppendixMetadata(
+                    auction.getTokenId(),
+                    "7JaR64+E7J247ISc66qF",
+                    grantor.getUserName(),
+                    grantor.getWalletAddress(),
+                    grantorHash,
+                    "7JaR7IiY7J247ISc66qF",
+                    grantee.getUserName(),
+                    grantee.getWalletAddress(),
+                    granteeHash,
+                    finalization.getRemainingPrincipal(),
+                    finalization.getAgreementDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")),
+                    finalization.getContractIpfsUrl()
+            );
+
+            MetamaskWallet winnerWallet = userService.getWalletByUserIdAndPrimaryFlagTrue(finalization.getWinnerUserId());
+
+            TransactionReceipt receipt = promissoryNoteAuctionService.finalizeAuction(
+                    auction.getTokenId(),
+                    winnerWallet.getWalletAddress(),
+                    BigInteger.valueOf(finalization.getWinningBidAmount()),
+                    metadata
+            );
+            finalization.recordTransaction(receipt.getTransactionHash());
+
+            // 양도로 메타데이터가 바뀌었으므로 이 서버의 캐시는 즉시 무효화 (다른 서버는 이벤트 감시로 무효화)
+            promissoryNoteService.evictPromissoryMetadata(auction.getTokenId());
+        } catch (Exception e) {
+            log.error("스마트컨트랙트 finalizeAuction 실패", e);
+            throw new BusinessException(ErrorCode.BLOCKCHAIN_AUCTION_END_FAIL, "블록체인에서 경매 종료를 실패했습니다");
+        }
+    }
+
+    // 경매 상태 저장 + 목록/입찰 순서기/상세 캐시 반영
+    private void closeAuction(Auction auction) {
+        auctionRepository.save(auction);
+        auctionListingService.updateStatus(auction.getAuctionId(), auction.getAuctionStatus());
+        bidSequencer.invalidate(auction.getAuctionId());
+        auctionDetailCache.invalidate(auction.getAuctionId());
+    }
+
+    // 낙찰/취소가 끝나면 컨트랙트의 예치자 정보가 삭제됨 (직전 시도의 트랜잭션을 보낸 primary 에서 조회)
+    private boolean isSettledOnChain(BigInteger tokenId) {
+        String depositor = RpcEndpointRouter.readFromPrimary(() -> promissoryNoteAuctionService.getDepositor(tokenId));
+        return depositor == null || ZERO_ADDRESS.equalsIgnoreCase(depositor);
+    }
+
+    private void runStep(Integer auctionId, AuctionFinalizationStep step,
+                         Set<AuctionFinalizationStep> completedSteps, Runnable action) {
+        if (completedSteps.contains(step)) {
+            return;
+        }
+
+        auctionFinalizationRepository.renewLease(auctionId, ZonedDateTime.now().plusSeconds(leaseSeconds));
+        action.run();
+        markCompleted(auctionId, step);
+        completedSteps.add(step);
+    }
+
+    // 독립 단계 병렬 실행, 하나라도 실패하면 나머지가 끝난 뒤 예외 (재시도 시 실패한 단계만 다시 실행)
+    private void runInParallel(Integer auctionId, Map<AuctionFinalizationStep, Runnable> steps,
+                               Set<AuctionFinalizationStep> completedSteps) {
+        Map<AuctionFinalizationStep, String> failures = new ConcurrentHashMap<>();
+
+        CompletableFuture<?>[] futures = steps.entrySet().stream()
+                .filter(entry -> !completedSteps.contains(entry.getKey()))
+                .map(entry -> CompletableFuture.runAsync(() -> {
+                    try {
+                        runStep(auctionId, entry.getKey(), completedSteps, entry.getValue());
+                    } catch (Exception e) {
+                        log.error("경매 종료 단계 실패 - auctionId={}, 단계={}", auctionId, entry.getKey().getLabel(), e);
+                        failures.put(entry.getKey(), String.valueOf(e.getMessage()));
+                    }
+                }, finalizationExecutor))
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(futures).join();
+
+        if (!failures.isEmpty()) {
+            throw new BusinessException(ErrorCode.BUSINESS_LOGIC_ERROR, "경매 종료 후속 처리 중 실패한 단계가 있습니다: " + failures.keySet());
+        }
+    }
+
+    private void markCompleted(Integer auctionId, AuctionFinalizationStep step) {
+        try {
+            checkpointRepository.save(AuctionFinalizationCheckpoint.builder()
+                    .auctionId(auctionId)
+                    .step(step)
+                    .completedAt(ZonedDateTime.now())
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 실행된 다른 처리에서 이미 기록함
+            log.debug("이미 기록된 경매 종료 단계 - auctionId={}, 단계={}", auctionId, step);
+        }
+    }
+
+    // 계약서/메일에 필요한 당사자 정보 (매 실행마다 조회, 계약서는 고정된 값으로 다시 생성)
+    private FinalizationContext loadContext(Auction auction, AuctionFinalization finalization) {
+        ProfileInfoResponseDTO grantor = userService.getProfileInfo(auction.getAssignor().getUserId());
+        ProfileInfoResponseDTO grantee = userService.getProfileInfo(finalization.getWinnerUserId());
+
+        // 채무자 정보 가져오기
+        User debtor = contractService.getDebtorByTokenId(auction.getTokenId());
+        MetamaskWallet debtorWallet = userService.getWalletByUserIdAndPrimaryFlagTrue(debtor.getUserId());
+
+        byte[] transferPdfBytes = auctionTransferPdfService.generateTransferAgreementPdf(
+                grantor.getUserName(),
+                grantor.getWalletAddress(),
+                grantee.getUserName(),
+                grantee.getWalletAddress(),
+                debtor.getUserName(),
+                debtorWallet.getWalletAddress(),
+                new BigDecimal(finalization.getRemainingPrincipal()),
+                finalization.getAgreementDate()
+        );
+
+        return new FinalizationContext(
+                grantor,
+                grantee,
+                userService.findById(finalization.getWinnerUserId()),
+                userService.findById(auction.getAssignor().getUserId()),
+                debtor,
+                debtorWallet,
+                transferPdfBytes
+        );
+    }
+
+    private record FinalizationContext(ProfileInfoResponseDTO grantor,
+                                       ProfileInfoResponseDTO grantee,
+                                       User winner,
+                                       User seller,
+                                       User debtor,
+                                       MetamaskWallet debtorWallet,
+                                       byte[] transferPdf) {
+    }
+}
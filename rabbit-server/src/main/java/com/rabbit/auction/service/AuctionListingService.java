@@ -0,0 +1,202 @@
+package com.rabbit.auction.service;
+
+import com.rabbit.auction.domain.entity.Auction;
+import com.rabbit.auction.domain.entity.AuctionListing;
+import com.rabbit.auction.repository.AuctionListingRepository;
+import com.rabbit.auction.repository.AuctionRepository;
+import com.rabbit.blockchain.service.BlockchainBatchService;
+import com.rabbit.blockchain.service.RepaymentSchedulerService;
+import com.rabbit.blockchain.wrapper.RepaymentScheduler;
+import com.rabbit.global.code.domain.enums.SysCommonCodes;
+import com.rabbit.global.util.LoanUtil;
+import com.rabbit.promissorynote.domain.entity.PromissoryNoteEntity;
+import com.rabbit.promissorynote.repository.PromissoryNoteRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.ZonedDateTime;
+import java.util.*;
+
+/**
+ * 경매 목록 프로젝션(auction_listing) 관리
+ * - 경매 등록/입찰/종료 시 동기 갱신, 상환 이벤트 수신 시 상환 정보 재동기화
+ * - 주기적으로 누락/오래된 행을 원본(auctions, 차용증, 블록체인)과 맞춤
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuctionListingService {
+
+    private final AuctionListingRepository auctionListingRepository;
+    private final AuctionRepository auctionRepository;
+    private final PromissoryNoteRepository promissoryNoteRepository;
+    private final RepaymentSchedulerService repaymentSchedulerService;
+    private final BlockchainBatchService blockchainBatchService;
+    private final LoanUtil loanUtil;
+
+    // 상환 정보 재동기화 기준 (분)
+    @Value("${auction.listing.stale-minutes:10}")
+    private long staleMinutes;
+
+    /**
+     * 경매 목록 행 생성 및 상환 정보 동기화
+     * - 체인 조회가 실패해도 예외를 던지지 않음 (상환 정보가 없으면 목록에서 제외되고 재조정 작업에서 다시 시도)
+     */
+    public void refresh(Integer auctionId) {
+        try {
+            AuctionListing listing = auctionListingRepository.findById(auctionId)
+                    .orElseGet(() -> createListing(auctionId));
+            if (listing == null) {
+                return;
+            }
+
+            RepaymentScheduler.RepaymentInfo repaymentInfo = repaymentSchedulerService.getLatestPaymentInfo(listing.getTokenId());
+            applyChainData(listing, repaymentInfo);
+        } catch (Exception e) {
+            log.warn("[AuctionListing] 경매 목록 갱신 실패 - auctionId={}, 오류={}", auctionId, e.getMessage());
+        }
+    }
+
+    /**
+     * 토큰의 진행 중 경매 목록 행 상환 정보 재동기화 (상환 이벤트 수신 시)
+     */
+    public void refreshByTokenId(BigInteger tokenId) {
+        auctionListingRepository.findByTokenIdAndAuctionStatus(tokenId, SysCommonCodes.Auction.ING)
+                .forEach(listing -> refresh(listing.getAuctionId()));
+    }
+
+    // 입찰 시 현재가 갱신 (입찰 트랜잭션에 참여)
+    @Transactional
+    public void updatePrice(Integer auctionId, Long price) {
+        auctionListingRepository.updatePrice(auctionId, price, ZonedDateTime.now());
+    }
+
+    // 경매 상태 변경 (취소/유찰/낙찰)
+    @Transactional
+    public void updateStatus(Integer auctionId, SysCommonCodes.Auction status) {
+        auctionListingRepository.updateStatus(auctionId, status, ZonedDateTime.now());
+    }
+
+    @Transactional
+    public void delete(Integer auctionId) {
+        if (auctionListingRepository.existsById(auctionId)) {
+            auctionListingRepository.deleteById(auctionId);
+        }
+    }
+
+    /**
+     * 경매 목록 재조정
+     * 1. 진행 중인데 목록 행이 없는 경매 생성
+     * 2. 원본과 상태가 다른 목록 행 상태 보정
+     * 3. 상환 정보가 오래된 진행 중 행을 배치 조회로 재동기화
+     */
+    @Scheduled(fixedDelayString = "${auction.listing.reconcile-interval-ms:60000}")
+    public void reconcile() {
+        try {
+            Set<Integer> ongoingIds = new HashSet<>(auctionRepository.findAuctionIdsByStatus(SysCommonCodes.Auction.ING));
+            Set<Integer> listedIds = new HashSet<>(auctionListingRepository.findAuctionIdsByStatus(SysCommonCodes.Auction.ING));
+
+            // 1. 누락된 행 생성
+            ongoingIds.stream()
+                    .filter(auctionId -> !listedIds.contains(auctionId))
+                    .forEach(this::refresh);
+
+            // 2. 종료/취소됐는데 진행 중으로 남은 행 보정
+            listedIds.stream()
+                    .filter(auctionId -> !ongoingIds.contains(auctionId))
+                    .forEach(auctionId -> auctionRepository.findById(auctionId).ifPresentOrElse(
+                            auction -> updateStatus(auctionId, auction.getAuctionStatus()),
+                            () -> delete(auctionId)));
+
+            // 3. 오래된 상환 정보 재동기화
+            Set<Integer> freshIds = new HashSet<>(auctionListingRepository.findSyncedAuctionIds(
+                    SysCommonCodes.Auction.ING, ZonedDateTime.now().minusMinutes(staleMinutes)));
+            List<AuctionListing> staleListings = auctionListingRepository.findAllById(
+                    ongoingIds.stream().filter(auctionId -> !freshIds.contains(auctionId)).toList());
+
+            if (staleListings.isEmpty()) {
+                return;
+            }
+
+            Map<BigInteger, RepaymentScheduler.RepaymentInfo> repaymentInfoMap = blockchainBatchService.getPaymentInfos(
+                    staleListings.stream().map(AuctionListing::getTokenId).toList());
+
+            for (AuctionListing listing : staleListings) {
+                RepaymentScheduler.RepaymentInfo repaymentInfo = repaymentInfoMap.get(listing.getTokenId());
+                if (repaymentInfo == null) {
+                    log.warn("[AuctionListing] 상환 정보 조회 실패 - auctionId={}, tokenId={}", listing.getAuctionId(), listing.getTokenId());
+                    continue;
+                }
+                applyChainData(listing, repaymentInfo);
+            }
+
+            log.info("[AuctionListing] 재조정 완료 - 진행 중={}, 재동기화={}", ongoingIds.size(), staleListings.size());
+        } catch (Exception e) {
+            log.error("[AuctionListing] 재조정 실패", e);
+        }
+    }
+
+    // 경매 + 차용증 정보로 목록 행 생성 (상환 정보는 비워 둠)
+    private AuctionListing createListing(Integer auctionId) {
+        Auction auction = auctionRepository.findById(auctionId).orElse(null);
+        if (auction == null) {
+            log.warn("[AuctionListing] 경매를 찾을 수 없습니다 - auctionId={}", auctionId);
+            return null;
+        }
+
+        PromissoryNoteEntity promissoryNote = promissoryNoteRepository.findByTokenIdAndDeletedFlagFalse(auction.getTokenId())
+                .orElse(null);
+        if (promissoryNote == null) {
+            log.warn("[AuctionListing] 차용증 정보가 없습니다 - auctionId={}, tokenId={}", auctionId, auction.getTokenId());
+            return null;
+        }
+
+        AuctionListing listing = AuctionListing.builder()
+                .auctionId(auction.getAuctionId())
+                .tokenId(auction.getTokenId())
+                .auctionStatus(auction.getAuctionStatus())
+                .price(auction.getPrice() != null ? auction.getPrice() : auction.getMinimumBid())
+                .endDate(auction.getEndDate())
+                .createdAt(auction.getCreatedAt())
+                .interestRate(promissoryNote.getInterestRate())
+                .repayType(promissoryNote.getRepaymentType())
+                .maturityDate(promissoryNote.getMaturityDate())
+                .earlypayFlag(promissoryNote.isEarlypayFlag())
+                .nftImageUrl(promissoryNote.getNftImage())
+                .drWallet(promissoryNote.getDebtorWalletAddress())
+                .build();
+
+        return auctionListingRepository.save(listing);
+    }
+
+    // 상환 정보 + 만기 수취액 반영
+    private void applyChainData(AuctionListing listing, RepaymentScheduler.RepaymentInfo repaymentInfo) {
+        Long totalAmount = null;
+        if (listing.getInterestRate() != null) {
+            BigDecimal ir = new BigDecimal(listing.getInterestRate()).divide(new BigDecimal("10000"));
+            totalAmount = loanUtil.calculateTotalRepaymentAmount(
+                    new BigDecimal(repaymentInfo.remainingPrincipal),
+                    ir,
+                    repaymentInfo.remainingPayments.intValue(),
+                    SysCommonCodes.Repayment.toCalculationType(listing.getRepayType()),
+                    LoanUtil.RoundingStrategy.HALF_UP,
+                    LoanUtil.TruncationStrategy.WON,
+                    LoanUtil.LegalLimits.getDefaultLimits()
+            ).longValue();
+        }
+
+        auctionListingRepository.updateChainData(
+                listing.getAuctionId(),
+                repaymentInfo.remainingPrincipal.longValue(),
+                repaymentInfo.remainingPayments.intValue(),
+                repaymentInfo.overdueInfo.defCnt.intValue(),
+                totalAmount,
+                ZonedDateTime.now());
+    }
+}
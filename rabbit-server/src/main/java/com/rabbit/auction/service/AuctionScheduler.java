@@ -1,60 +1,100 @@
 package com.rabbit.auction.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.rabbit.auction.domain.dto.AuctionRetryMessage;
-import com.rabbit.global.config.RabbitMQConfig;
+import com.rabbit.auction.domain.entity.Auction;
+import com.rabbit.auction.domain.entity.AuctionEndTimer;
+import com.rabbit.auction.repository.AuctionEndTimerRepository;
+import com.rabbit.auction.repository.AuctionRepository;
+import com.rabbit.global.code.domain.enums.SysCommonCodes;
 import com.rabbit.global.exception.BusinessException;
 import com.rabbit.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.core.MessagePostProcessor;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import com.fasterxml.jackson.databind.ObjectMapper;
 
-import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.List;
 
+/**
+ * 경매 종료 예약
+ * - 종료 시각을 auction_end_timer 에 저장하고, 모든 서버가 주기적으로 종료 시각이 지난 예약을 발송
+ * - 메시지별 TTL 을 쓰던 지연 큐와 달리 먼저 들어온 긴 경매가 짧은 경매의 종료를 막지 않고,
+ *   재시작해도 예약이 DB에 남아 있음 (종료 오차는 폴링 주기 이내)
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AuctionScheduler {
 
-    private final RabbitTemplate rabbitTemplate;
-    private final ObjectMapper objectMapper;
+    private final AuctionEndTimerRepository auctionEndTimerRepository;
+    private final AuctionRepository auctionRepository;
+    private final AuctionEndDispatcher auctionEndDispatcher;
+    private final MeterRegistry meterRegistry;
 
-    public void scheduleAuctionEnd(Integer auctionId, ZonedDateTime endDate) {
-        // endDate가 UTC라면 KST로 바꿔서 비교
-        ZonedDateTime adjustedEndDate = endDate; //<- 시간대 맞춰서
-        long delay = Duration.between(ZonedDateTime.now(), adjustedEndDate).toMillis();
+    @Value("${auction.end-scheduler.batch-size:500}")
+    private int batchSize;
 
-        if (delay <= 0) {
+    public void scheduleAuctionEnd(Integer auctionId, ZonedDateTime endDate) {
+        if (!endDate.isAfter(ZonedDateTime.now())) {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "경매 종료 시간이 현재보다 이전일 수 없습니다.");
         }
 
-        AuctionRetryMessage message = AuctionRetryMessage.builder()
-                .auctionId(auctionId)
-                .retryCount(0)
-                .build();
+        saveTimer(auctionId, endDate);
+    }
+
+    // 경매 취소/삭제 시 종료 예약 제거
+    public void cancelAuctionEnd(Integer auctionId) {
+        if (auctionEndTimerRepository.existsById(auctionId)) {
+            auctionEndTimerRepository.deleteById(auctionId);
+        }
+    }
 
-        String jsonMessage;
+    /**
+     * 종료 시각이 지난 예약 발송 (한 번에 batchSize 건씩, 밀린 예약이 없을 때까지)
+     */
+    @Scheduled(fixedDelayString = "${auction.end-scheduler.poll-interval-ms:1000}")
+    public void dispatchDueAuctions() {
         try {
-            jsonMessage = objectMapper.writeValueAsString(message);
-        } catch (JsonProcessingException e) {
-            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "경매 메시지 직렬화 실패");
+            int dispatched;
+            do {
+                dispatched = auctionEndDispatcher.dispatchDue(batchSize);
+            } while (dispatched == batchSize);
+        } catch (Exception e) {
+            log.error("[경매 종료 예약] 발송 실패 - 다음 주기에 재시도: {}", e.getMessage(), e);
         }
+    }
+
+    /**
+     * 시작 시 예약이 빠진 진행 중 경매 복구 (이전 지연 큐 방식으로 등록된 경매 포함)
+     * - 종료 시각이 이미 지난 경매는 다음 폴링에서 바로 발송
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreMissingTimers() {
+        Gauge.builder("auction.end.scheduled", auctionEndTimerRepository, repository -> repository.count())
+                .description("종료 예약된 경매 수")
+                .register(meterRegistry);
+
+        List<Auction> unscheduled = auctionRepository.findUnscheduledByStatus(SysCommonCodes.Auction.ING);
+        unscheduled.forEach(auction -> saveTimer(auction.getAuctionId(), auction.getEndDate()));
 
-        MessagePostProcessor processor = msg -> {
-            msg.getMessageProperties().setExpiration(String.valueOf(delay));
-            return msg;
-        };
-
-        rabbitTemplate.convertAndSend(
-                "",
-                RabbitMQConfig.DELAY_QUEUE,
-                jsonMessage,
-                processor
-        );
+        if (!unscheduled.isEmpty()) {
+            log.info("[경매 종료 예약] 누락된 예약 복구 - {}건", unscheduled.size());
+        }
     }
 
+    private void saveTimer(Integer auctionId, ZonedDateTime endDate) {
+        AuctionEndTimer timer = auctionEndTimerRepository.findById(auctionId)
+                .orElseGet(() -> AuctionEndTimer.builder()
+                        .auctionId(auctionId)
+                        .createdAt(ZonedDateTime.now())
+                        .fireAt(endDate)
+                        .build());
+        timer.reschedule(endDate);
+        auctionEndTimerRepository.save(timer);
+    }
 }
@@ -1,8 +1,9 @@
 package com.rabbit.auction.service;
 
+import com.rabbit.auction.cache.AuctionDetailCache;
 import com.rabbit.auction.domain.dto.request.AuctionFilterRequestDTO;
 import com.rabbit.auction.domain.dto.response.*;
-import com.rabbit.auction.domain.entity.Bid;
+import com.rabbit.auction.repository.AuctionListingRepository;
 import com.rabbit.auction.repository.AuctionRepository;
 import com.rabbit.auction.domain.dto.request.AuctionRequestDTO;
 import com.rabbit.auction.domain.entity.Auction;
@@ -11,7 +12,6 @@ import com.rabbit.bankApi.service.BankService;
 import com.rabbit.blockchain.domain.dto.RepaymentInfo;
 import com.rabbit.blockchain.service.*;
 import com.rabbit.blockchain.wrapper.PromissoryNote;
-import com.rabbit.blockchain.wrapper.PromissoryNoteAuction;
 import com.rabbit.blockchain.wrapper.RepaymentScheduler;
 import com.rabbit.contract.repository.ContractRepository;
 import com.rabbit.contract.service.ContractService;
@@ -20,21 +20,16 @@ import com.rabbit.global.code.domain.enums.SysCommonCodes;
 import com.rabbit.global.code.service.SysCommonCodeService;
 import com.rabbit.global.exception.BusinessException;
 import com.rabbit.global.exception.ErrorCode;
-import com.rabbit.global.ipfs.PinataUploader;
 import com.rabbit.global.response.PageResponseDTO;
 import com.rabbit.global.util.DateTimeUtils;
 import com.rabbit.global.util.IntegrityHashUtil;
 import com.rabbit.global.util.LoanUtil;
 import com.rabbit.loan.domain.dto.response.ContractEventDTO;
-import com.rabbit.mail.service.ExtendedMailService;
 import com.rabbit.mail.service.MailService;
-import com.rabbit.notification.domain.dto.request.NotificationRequestDTO;
-import com.rabbit.notification.service.NotificationService;
 import com.rabbit.promissorynote.domain.entity.PromissoryNoteEntity;
 import com.rabbit.promissorynote.repository.PromissoryNoteRepository;
 import com.rabbit.promissorynote.service.PromissoryNoteBusinessService;
 import com.rabbit.sse.service.SseEventPublisher;
-import com.rabbit.user.domain.dto.response.ProfileInfoResponseDTO;
 import com.rabbit.user.domain.entity.User;
 import com.rabbit.user.repository.MetamaskWalletRepository;
 import com.rabbit.user.service.UserService;
@@ -46,28 +41,27 @@ import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 
 import org.springframework.data.domain.Pageable;
-import org.web3j.protocol.core.methods.response.TransactionReceipt;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class AuctionService {
     private final AuctionRepository auctionRepository;
+    private final AuctionListingRepository auctionListingRepository;
     private final BidRepository bidRepository;
     private final AuctionScheduler auctionScheduler;
     private final SseEventPublisher sseEventPublisher;
-    private final NotificationService notificationService;
     private final PromissoryNoteAuctionService promissoryNoteAuctionService;
     private final UserService userService;
     private final ContractRepository contractRepository;
@@ -77,17 +71,19 @@ public class AuctionService {
     private final BankService bankService;
     private final LoanUtil loanUtil;
     private final EventService eventService;
-    private final PinataUploader pinataUploader;
-    private final AuctionTransferPdfService auctionTransferPdfService;
     private final IntegrityHashUtil integrityHashUtil;
-    private final AuctionTransferNoticePdfService auctionTransferNoticePdfService;
-    private final ExtendedMailService extendedMailService;
     private final PromissoryNoteRepository promissoryNoteRepository;
     private final MetamaskWalletRepository metamaskWalletRepository;
 
     private final SysCommonCodeService sysCommonCodeService;
     private final RepaymentSchedulerService repaymentSchedulerService;
+    private final BlockchainAsyncService blockchainAsyncService;
     private final PromissoryNoteBusinessService promissoryNoteBusinessService;
+    private final AuctionListingService auctionListingService;
+    private final AuctionDetailCache auctionDetailCache;
+    private final ReturnRateSketchService returnRateSketchService;
+    private final BidSequencer bidSequencer;
+    private final AuctionFinalizationService auctionFinalizationService;
 
     // 코드 타입 상수 정의
     private static final String AUCTION_STATUS = SysCommonCodes.Auction.values()[0].getCodeType();
@@ -129,6 +125,9 @@ public class AuctionService {
 
         auctionScheduler.scheduleAuctionEnd(savedAuction.getAuctionId(), savedAuction.getEndDate());
 
+        // 경매 목록 행 생성 (상환 정보 동기화 전까지는 목록에 노출되지 않음)
+        auctionListingService.refresh(savedAuction.getAuctionId());
+
         return AuctionIdDTO.builder()
                 .auctionId(savedAuction.getAuctionId())
                 .build();
@@ -137,98 +136,39 @@ public class AuctionService {
     public PageResponseDTO<AuctionResponseDTO> searchAuctions(AuctionFilterRequestDTO request, Pageable pageable) {
         log.info("[AuctionService] 가격 조건 요청: minPrice={}, maxPrice={}", request.getMinPrice(), request.getMaxPrice());
 
-        // LEFT JOIN을 사용하여 기본 데이터 조회
-        Page<AuctionResponseDTO> result = auctionRepository.searchAuctionsWithLeftJoin(request, pageable);
-        
-        // 추가 데이터 설정 및 필터링
-        List<AuctionResponseDTO> fullList = result.getContent().stream()
-                .map(dto -> {
-                    try {
-                        log.info("[Auction] 경매 목록을 위한 정보 호출 auctionId={}, tokenId={}", dto.getAuctionId(), dto.getTokenId());
-
-                        // tokenId가 null인 경우 처리 (LEFT JOIN으로 인해 가능한 상황)
-                        if (dto.getTokenId() == null) {
-                            log.warn("[Auction] 해당 경매에 tokenId가 없습니다: auctionId={}" + dto.getAuctionId());
-                            return null;
-                        }
-
-                        // 상환 정보 조회 (연체 횟수, 남은 원금)
-                        RepaymentScheduler.RepaymentInfo repaymentInfo = repaymentSchedulerService.getPaymentInfo(dto.getTokenId());
-
-                        // 채무자 wallet 주소를 활용하여 신용 점수 조회
-                        String creditScore = "B"; //bankService.getCreditScoreByWalletAddress(dto.getDrWallet());
-
-                        // 필요한 추가 정보 설정
-                        dto.setCreditScore(creditScore);
-                        dto.setDefCnt(repaymentInfo.overdueInfo.defCnt.intValue());
-                        dto.setLa(repaymentInfo.remainingPrincipal.longValue());
-
-                        // 이자율 변환 처리 - Integer를 BigDecimal로 변환
-                        if (dto.getInterestRate() != null) {
-                            try {
-                                // Integer 타입의 interestRate를 BigDecimal로 변환 후 10000으로 나누기
-                                BigDecimal ir = new BigDecimal(dto.getInterestRate()).divide(new BigDecimal("10000"));
-                                dto.setIr(ir); // ir 필드에 저장
-                            } catch (Exception e) {
-                                log.warn("[Auction] 이자율 변환 오류: {}, 오류 내용: {}", dto.getInterestRate(), e.getMessage());
-                                return null;
-                            }
-                        } else {
-                            log.warn("[Auction] 이자율 정보가 없습니다: auctionId={}", dto.getAuctionId());
-                            return null;
-                        }
-
-                        // 만기 수취액 계산
-                        BigDecimal totalAmount = loanUtil.calculateTotalRepaymentAmount(
-                                new BigDecimal(repaymentInfo.remainingPrincipal),
-                                dto.getIr(), // 변환된 이자율 사용
-                                repaymentInfo.remainingPayments.intValue(),
-                                SysCommonCodes.Repayment.toCalculationType(dto.getRepayType()),
-                                LoanUtil.RoundingStrategy.HALF_UP,
-                                LoanUtil.TruncationStrategy.WON,
-                                LoanUtil.LegalLimits.getDefaultLimits()
-                        );
-                        dto.setTotalAmount(totalAmount.longValue());
-
-                        return dto;
-                    } catch (Exception e) {
-                        log.error("[리스트 변환 오류] auctionId={}, 오류 내용={}", dto.getAuctionId(), e.getMessage(), e);
-                        return null; // 예외 시 필터링 제외
-                    }
-                })
-                .filter(Objects::nonNull)
-                .toList();
+        // 경매 목록 프로젝션에서 필터 + 페이징 (상환 정보가 미리 동기화되어 있어 체인 호출 없음)
+        Page<AuctionResponseDTO> result = auctionListingRepository.searchListings(request, pageable);
+
+        result.getContent().forEach(dto -> {
+            // 채무자 wallet 주소를 활용하여 신용 점수 조회
+            dto.setCreditScore("B"); //bankService.getCreditScoreByWalletAddress(dto.getDrWallet());
+
+            // 이자율 변환 처리 - Integer를 BigDecimal로 변환 후 10000으로 나누기
+            if (dto.getInterestRate() != null) {
+                dto.setIr(new BigDecimal(dto.getInterestRate()).divide(new BigDecimal("10000")));
+            }
+        });
 
         return PageResponseDTO.<AuctionResponseDTO>builder()
-                .content(fullList)
+                .content(result.getContent())
                 .pageNumber(pageable.getPageNumber())
                 .pageSize(pageable.getPageSize())
-                .totalElements(result.getTotalElements()) // 전체 개수는 쿼리 결과 기준
+                .totalElements(result.getTotalElements())
                 .build();
     }
 
-    public List<AuctionMyListResponseDTO> myAuctionList(Integer userId){
-        // userId가 동일한 경매만 필터링
-        List<Auction> auctions = auctionRepository.findAll()
-                .stream()
-                .filter(auction -> auction.getAssignor().getUserId().equals(userId))
-                .toList();
-
-        return auctions.stream()
-                .map(auction -> {
-                    String nftImageUrl = promissoryNoteRepository.findNftImageByTokenId(auction.getTokenId())
-                            .orElse(null);
-
-                    return AuctionMyListResponseDTO.builder()
-                            .auctionId(auction.getAuctionId())
-                            .price(auction.getPrice())
-                            .endDate(auction.getEndDate())
-                            .tokenId(auction.getTokenId())
-                            .nftImageUrl(nftImageUrl)
-                            .auctionStatus(auction.getAuctionStatus())
-                            .build();
-                })
-                .toList();
+    /**
+     * 내가 등록한 경매 목록 (양도자 조건/NFT 이미지/페이지를 쿼리 한 번에 처리)
+     */
+    public PageResponseDTO<AuctionMyListResponseDTO> myAuctionList(Integer userId, Pageable pageable){
+        Page<AuctionMyListResponseDTO> result = auctionRepository.findMyAuctions(userId, pageable);
+
+        return PageResponseDTO.<AuctionMyListResponseDTO>builder()
+                .content(result.getContent())
+                .pageNumber(result.getNumber())
+                .pageSize(result.getSize())
+                .totalElements(result.getTotalElements())
+                .build();
     }
 
     public void cancelAuction(@Valid Integer auctionId, Integer userId) {
@@ -257,6 +197,10 @@ public class AuctionService {
         auction.setAuctionStatus(SysCommonCodes.Auction.CANCELED);
 
         auctionRepository.save(auction);
+        auctionListingService.updateStatus(auctionId, SysCommonCodes.Auction.CANCELED);
+        bidSequencer.invalidate(auctionId);
+        auctionDetailCache.invalidate(auctionId);
+        auctionScheduler.cancelAuctionEnd(auctionId);
     }
 
     public void deleteAuction(@Valid Integer auctionId) {
@@ -264,27 +208,26 @@ public class AuctionService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "해당 경매를 찾을 수 없습니다."));
 
         auctionRepository.delete(auction);
+        auctionListingService.delete(auctionId);
+        auctionDetailCache.invalidate(auctionId);
+        auctionScheduler.cancelAuctionEnd(auctionId);
     }
 
     public PageResponseDTO<MyAuctionResponseDTO> getMyBidAuctions(Integer userId, Pageable pageable) {
         Page<MyAuctionResponseDTO> result = auctionRepository.getMyBidAuction(userId, pageable);
 
-        // 국제화된 상태명 설정
-        // page 처리 된 곳이기 때문에 매번 국제화를 불러와도 성능 차이 미미함 (10 - 50개 정도이기 때문)
-        // but 엑셀 저장과 같이 한번에 수만건 처리해야하는 batch 작업이라면 국제화한 code name 을 미리 계산해서 사용하는 것이 성능에 좋음
+        // 국제화된 상태명 설정 (NFT 이미지는 쿼리에서 함께 조회)
+        // 상태 값 종류가 몇 개 안 되므로 상태별로 한 번만 계산
+        Map<String, String> auctionStatusNames = new HashMap<>();
+        Map<String, String> bidStatusNames = new HashMap<>();
         result.getContent().forEach(dto -> {
             if (dto.getAuctionStatus() != null) {
-                dto.setAuctionStatusName(sysCommonCodeService.getCodeName(
-                        AUCTION_STATUS, dto.getAuctionStatus().getCode()));
+                dto.setAuctionStatusName(auctionStatusNames.computeIfAbsent(dto.getAuctionStatus().getCode(),
+                        code -> sysCommonCodeService.getCodeName(AUCTION_STATUS, code)));
             }
             if (dto.getBidStatus() != null) {
-                dto.setBidStatusName(sysCommonCodeService.getCodeName(
-                        BID_STATUS, dto.getBidStatus()));
-            }
-
-            if (dto.getTokenId() != null) {
-                Optional<String> imageOpt = promissoryNoteRepository.findNftImageByTokenId(dto.getTokenId());
-                imageOpt.ifPresent(dto::setNftImage);
+                dto.setBidStatusName(bidStatusNames.computeIfAbsent(dto.getBidStatus(),
+                        code -> sysCommonCodeService.getCodeName(BID_STATUS, code)));
             }
         });
 
@@ -296,7 +239,20 @@ public class AuctionService {
                 .build();
     }
 
+    /**
+     * 경매 상세 조회
+     * - 사용자와 무관한 부분은 캐시에서 가져오고 mineFlag 만 요청마다 계산
+     */
     public AuctionDetailResponseDTO getAuctionDetail(Integer auctionId, Integer userId) {
+        AuctionDetailCache.Snapshot snapshot = auctionDetailCache.get(auctionId, () -> loadAuctionDetail(auctionId));
+
+        return snapshot.detail().toBuilder()
+                .mineFlag(snapshot.assignorId().equals(userId))
+                .build();
+    }
+
+    // DB/체인 조회 후 상세 정보 조립 (mineFlag 제외)
+    private AuctionDetailCache.Snapshot loadAuctionDetail(Integer auctionId) {
         Auction auction = auctionRepository.findById(auctionId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "해당 경매를 찾을 수 없습니다."));
 
@@ -306,8 +262,16 @@ public class AuctionService {
 
         //블록체인에서 직접 읽어온 값 추가 필요
         try {
-            PromissoryNote.PromissoryMetadata promissoryMetadata = promissoryNoteService.getPromissoryMetadata(auction.getTokenId());
-            RepaymentScheduler.RepaymentInfo repaymentInfo = repaymentSchedulerService.getPaymentInfo(auction.getTokenId());
+            // 메타데이터 / 상환 정보 / PDF URI 를 동시에 조회
+            CompletableFuture<PromissoryNote.PromissoryMetadata> metadataFuture = blockchainAsyncService.getPromissoryMetadata(auction.getTokenId());
+            CompletableFuture<RepaymentScheduler.RepaymentInfo> repaymentInfoFuture = blockchainAsyncService.getPaymentInfo(auction.getTokenId());
+            CompletableFuture<String> pdfUrlFuture = blockchainAsyncService.supply(
+                    () -> promissoryNoteBusinessService.getPromissoryNotePdfUriByTokenId(auction.getTokenId()));
+
+            CompletableFuture.allOf(metadataFuture, repaymentInfoFuture, pdfUrlFuture).join();
+
+            PromissoryNote.PromissoryMetadata promissoryMetadata = metadataFuture.join();
+            RepaymentScheduler.RepaymentInfo repaymentInfo = repaymentInfoFuture.join();
 
             BigDecimal ir = new BigDecimal(promissoryMetadata.ir).divide(BigDecimal.valueOf(10000));
             BigDecimal dir = new BigDecimal(promissoryMetadata.dir).divide(BigDecimal.valueOf(10000));
@@ -326,9 +290,9 @@ public class AuctionService {
 
             Long curPrice = auction.getPrice()==null? auction.getMinimumBid(): auction.getPrice();
 
-            String pdfUrl = promissoryNoteBusinessService.getPromissoryNotePdfUriByTokenId(auction.getTokenId());
+            String pdfUrl = pdfUrlFuture.join();
 
-            return AuctionDetailResponseDTO.builder()
+            AuctionDetailResponseDTO detail = AuctionDetailResponseDTO.builder()
                     .tokenId(auction.getTokenId())
                     .auctionId(auction.getAuctionId())
                     .price(curPrice)  //현재 가격
@@ -346,193 +310,21 @@ public class AuctionService {
                     .createdAt(auction.getCreatedAt())
                     .nftImageUrl(promissoryMetadata.nftImage)
                     .auctionStatus(auction.getAuctionStatus())
-                    .mineFlag(auction.getAssignor().getUserId().equals(userId))
                     .pdfUrl(pdfUrl)
                     .build();
+
+            return new AuctionDetailCache.Snapshot(detail, auction.getAssignor().getUserId());
         } catch (Exception e) {
             log.error("[블록체인 오류] getPromissoryMetadata 실패", e);
             throw new BusinessException(ErrorCode.BLOCKCHAIN_ERROR);
         }
     }
 
+    /**
+     * 경매 종료 처리 (단계별 체크포인트로 재시도 시 실패한 단계부터 이어서 실행)
+     */
     public void processAuctionEnd(Integer auctionId) {
-        log.info("경매 종료 처리 시작 - auctionId={}", auctionId);
-
-        Auction auction = auctionRepository.findById(auctionId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "해당 경매를 찾을 수 없습니다."));
-
-        if (auction.getAuctionStatus() != SysCommonCodes.Auction.ING) {
-            throw new BusinessException(ErrorCode.BUSINESS_LOGIC_ERROR, "진행중인 경매가 아닙니다.");
-        }
-
-        List<Bid> bids = bidRepository.findAllByAuction_AuctionIdOrderByBidAmountDescCreatedAtAsc(auctionId);
-
-        User winner = null;
-        if (bids.isEmpty()) {   //낙찰자가 없는 경우
-            auction.setAuctionStatus(SysCommonCodes.Auction.FAILED);
-
-            try {
-                // 경매 컨트랙트의 cancelAuction으로 경매 취소
-                TransactionReceipt receipt = promissoryNoteAuctionService.cancelAuction(auction.getTokenId());
-
-                // 트랜잭션 성공 여부 확인
-                boolean isSuccess = "0x1".equals(receipt.getStatus());
-                if (isSuccess) {
-                    log.info("경매 취소 성공");
-                } else {
-                    log.error("경매 취소 실패. 트랜잭션 상태: {}", receipt.getStatus());
-                }
-            } catch (Exception e) {
-                log.error("경매 취소 블록체인 오류: {}", e.getMessage(), e);
-                throw new BusinessException(ErrorCode.BLOCKCHAIN_AUCTION_CANCEL_FAIL, "블록체인에서 경매 취소에 실패했습니다.");
-            }
-
-            //양도자에게 알림
-            notificationService.createNotification(
-                    NotificationRequestDTO.builder()
-                            .userId(auction.getAssignor().getUserId())
-                            .type(SysCommonCodes.NotificationType.AUCTION_FAILED)
-                            .relatedId(auctionId)
-                            .relatedType(SysCommonCodes.NotificationRelatedType.AUCTION)
-                            .build()
-            );
-        } else {
-            Bid winningBid = bids.get(0);   //최고가
-            auction.updatePriceAndBidder(winningBid.getBidAmount(), winningBid.getUserId());
-            auction.setAuctionStatus(SysCommonCodes.Auction.COMPLETED);
-
-            // 낙찰 종료 트랜잭션 실행
-            ProfileInfoResponseDTO grantor = userService.getProfileInfo(auction.getAssignor().getUserId());
-            ProfileInfoResponseDTO grantee = userService.getProfileInfo(winningBid.getUserId());
-
-            // 상환 정보 조회 (연체 횟수, 남은 원금)
-            RepaymentScheduler.RepaymentInfo repaymentInfo;
-            try {
-                repaymentInfo = repaymentSchedulerService.getPaymentInfo(auction.getTokenId());
-            } catch (Exception e) {
-                log.error("상환정보 조회 오류: {}", e.getMessage(), e);
-                throw new BusinessException(ErrorCode.BLOCKCHAIN_REPAYMENT_FAIL, "블록체인에서 상환 조회에 실패했습니다.");
-            }
-
-            // 채무자 정보 가져오기
-            User debtor = contractService.getDebtorByTokenId(auction.getTokenId());
-            MetamaskWallet debtorWallet = userService.getWalletByUserIdAndPrimaryFlagTrue(debtor.getUserId());
-
-            // pdf 만들기
-            byte[] transferPdfBytes = auctionTransferPdfService.generateTransferAgreementPdf(
-                    grantor.getUserName(),
-                    grantor.getWalletAddress(),
-                    grantee.getUserName(),
-                    grantee.getWalletAddress(),
-                    debtor.getUserName(),
-                    debtorWallet.getWalletAddress(),
-                    new BigDecimal(repaymentInfo.remainingPrincipal),
-                    LocalDate.now()
-            );
-
-            // pdf pinata에 업로드하기
-            String pdfFileName = "양도양수계약서_" + auction.getAuctionId() + ".pdf";
-            String pdfUrl = pinataUploader.uploadContent(transferPdfBytes, pdfFileName, "application/pdf");
-
-            auction.setContractIpfsUrl(pdfUrl);
-
-            // 해시값 구하기
-            String grantorHash = IntegrityHashUtil.generateIntegrityHash(grantor.getUserName(), grantor.getEmail(), grantor.getWalletAddress());
-            String granteeHash = IntegrityHashUtil.generateIntegrityHash(grantee.getUserName(), grantee.getEmail(), grantee.getWalletAddress());
-
-            // 부속 nft 발행
-            try {
-                // 메타데이터 생성
-                PromissoryNoteAuction.AppendixMetadata metadata = new PromissoryNoteAuction.AppendixMetadata(
-                        auction.getTokenId(),
-                        "7JaR64+E7J247ISc66qF",
-                        grantor.getUserName(),
-                        grantor.getWalletAddress(),
-                        grantorHash,
-                        "7JaR7IiY7J247ISc66qF",
-                        grantee.getUserName(),
-                        grantee.getWalletAddress(),
-                        granteeHash,
-                        repaymentInfo.remainingPrincipal,
-                        ZonedDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")),
-                        pdfUrl
-                );
-
-                MetamaskWallet currentBidderWallet = userService.getWalletByUserIdAndPrimaryFlagTrue(winningBid.getUserId());
-
-                promissoryNoteAuctionService.finalizeAuction(
-                        auction.getTokenId(),
-                        currentBidderWallet.getWalletAddress(),
-                        BigInteger.valueOf(winningBid.getBidAmount()),
-                        metadata
-                );
-            } catch (Exception e) {
-                log.error("스마트컨트랙트 finalizeAuction 실패", e);
-                throw new BusinessException(ErrorCode.BLOCKCHAIN_AUCTION_END_FAIL, "블록체인에서 경매 종료를 실패했습니다");
-            }
-
-            // 낙찰자에게 성공 알림
-            notificationService.createNotification(
-                    NotificationRequestDTO.builder()
-                            .userId(winningBid.getUserId())
-                            .type(SysCommonCodes.NotificationType.AUCTION_SUCCESS)
-                            .relatedId(auctionId)
-                            .relatedType(SysCommonCodes.NotificationRelatedType.AUCTION)
-                            .build()
-            );
-
-            winner = userService.findById(winningBid.getUserId());
-            extendedMailService.sendAuctionContractToAssignee(
-                    winner.getEmail(),
-                    winner.getUserName(),
-                    auction.getTokenId(),
-                    transferPdfBytes
-            );
-
-            // 양도자에게 전송 예정 알림
-            notificationService.createNotification(
-                    NotificationRequestDTO.builder()
-                            .userId(auction.getAssignor().getUserId())
-                            .type(SysCommonCodes.NotificationType.AUCTION_TRANSFERRED)
-                            .relatedId(auctionId)
-                            .relatedType(SysCommonCodes.NotificationRelatedType.AUCTION)
-                            .build()
-            );
-
-            User seller = userService.findById(auction.getAssignor().getUserId());
-            extendedMailService.sendAuctionContractToAssignor(
-                    seller.getEmail(),
-                    seller.getUserName(),
-                    auction.getTokenId(),
-                    transferPdfBytes
-            );
-
-            // 채무자에게 알림 메일 전송
-            byte[] noticePdfBytes = auctionTransferNoticePdfService.generateTransferNoticePdf(
-                    grantor.getUserName(),               // 양도인
-                    grantor.getWalletAddress(),
-                    grantee.getUserName(),               // 양수인
-                    grantee.getWalletAddress(),
-                    debtor.getUserName(),                // 제3채무자
-                    debtorWallet.getWalletAddress(),
-                    new BigDecimal(repaymentInfo.remainingPrincipal), // 채권 금액
-                    LocalDate.now()                      // 통지일자
-            );
-
-            extendedMailService.sendAuctionTransferNoticeEmail(
-                    debtor.getEmail(),
-                    debtor.getUserName(),
-                    grantee.getUserName(),
-                    noticePdfBytes,
-                    transferPdfBytes,
-                    auction.getAuctionId()
-            );
-        }
-
-        auctionRepository.save(auction);
-
-        //차용증 현재 채권자 정보 변경
-        contractService.changeCreditorByTokenId(auction.getTokenId(), winner.getUserId());
+        auctionFinalizationService.finalizeAuction(auctionId);
     }
 
     public SimilarAuctionResponseDTO getSimilarAuctions(@Valid Integer auctionId) {
@@ -542,7 +334,7 @@ public class AuctionService {
         // 2. 기준 값 추출
         // 남은 원금, 남은 상환일 조회 => nft에서 조회
         try {
-            PromissoryNote.PromissoryMetadata metadata = promissoryNoteService.getPromissoryMetadata(BigInteger.valueOf(targetAuction.getAuctionId()));
+            PromissoryNote.PromissoryMetadata metadata = promissoryNoteService.getPromissoryMetadata(targetAuction.getTokenId());
             RepaymentScheduler.RepaymentInfo repaymentInfo = repaymentSchedulerService.getPaymentInfo(targetAuction.getTokenId());
 
             Long basePrincipal = repaymentInfo.remainingPrincipal.longValue();
@@ -575,19 +367,13 @@ public class AuctionService {
             BigDecimal rate = diff.divide(currentPrice, 6, RoundingMode.HALF_UP); // 소수점 6자리까지
             BigDecimal currentRR = rate.multiply(BigDecimal.valueOf(100)); // 퍼센트로 변환
 
-            // 3. 유사 경매 조회
-            List<Auction> similarAuctions = auctionRepository.findSimilarAuctionsByPrincipalAndDays(
+            // 3. 유사 경매 수익률 분포 조회 (미리 구성한 버킷별 t-digest 를 합쳐서 사용)
+            ReturnRateSketchService.Distribution distribution = returnRateSketchService.getDistribution(
                     auctionId, basePrincipal, baseDaysInt
             );
 
             // 4. percentile 계산
-            int rank = 0;
-            for (int i = 0; i < similarAuctions.size(); i++) {
-                if (currentRR.compareTo(similarAuctions.get(i).getReturnRate()) >= 0) {
-                    rank = i + 1;
-                }
-            }
-            int percentile = (int) Math.round((rank * 100.0) / similarAuctions.size());
+            int percentile = distribution.percentile(currentRR.doubleValue());
 
             TargetAuctionResponseDTO targetAuctionResponseDTO = TargetAuctionResponseDTO.builder()
                     .auctionId(targetAuction.getAuctionId())
@@ -597,18 +383,9 @@ public class AuctionService {
                     .percentile(percentile)
                     .build();
 
-            List<ComparisonAuctionResponseDTO> comparisonList = similarAuctions.stream()
-                    .map(a -> ComparisonAuctionResponseDTO.builder()
-                            .auctionId(a.getAuctionId())
-                            .rp(a.getRemainPrincipal())
-                            .rd(a.getRemainRepaymentDate())
-                            .rr(a.getReturnRate())
-                            .build())
-                    .toList();
-
             return SimilarAuctionResponseDTO.builder()
                     .targetAuction(targetAuctionResponseDTO)
-                    .comparisonAuctions(comparisonList)
+                    .comparisonAuctions(distribution.comparisons())
                     .build();
         } catch (Exception e) {
             throw new BusinessException(ErrorCode.BLOCKCHAIN_ERROR);
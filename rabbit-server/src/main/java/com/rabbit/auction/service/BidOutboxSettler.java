@@ -0,0 +1,218 @@
+package com.rabbit.auction.service;
+
+import com.rabbit.auction.cache.AuctionDetailCache;
+import com.rabbit.auction.cache.BidHistoryCache;
+import com.rabbit.auction.domain.entity.BidOutbox;
+import com.rabbit.auction.repository.BidOutboxRepository;
+import com.rabbit.blockchain.gateway.RpcEndpointRouter;
+import com.rabbit.blockchain.service.PromissoryNoteAuctionService;
+import com.rabbit.global.code.domain.enums.SysCommonCodes;
+import com.rabbit.global.config.AsyncConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.protocol.exceptions.TransactionException;
+
+import java.math.BigInteger;
+import java.time.ZonedDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 입찰 아웃박스 정산기 (비동기 확정 모드)
+ * - PENDING 아웃박스를 오래된 순으로 가져와 경매별로 한 건씩 RAB 예치 → 영수증 확인 → 확정/거절
+ * - 같은 경매에 SUBMITTED 건이 있으면 다음 건을 보내지 않아 컨트랙트에 입찰 순서대로 예치됨
+ * - PENDING → SUBMITTED 조건부 갱신으로 선점해서 여러 서버가 동시에 실행해도 한 건은 한 번만 전송
+ * - 실패 영수증만 거절, 타임아웃 등 결과를 알 수 없는 오류는 SUBMITTED 로 남기고 reap 에서 체인 상태로 정리
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auction.bid.settlement.async", havingValue = "true")
+public class BidOutboxSettler {
+
+    private final BidOutboxRepository bidOutboxRepository;
+    private final BidSettlementService bidSettlementService;
+    private final PromissoryNoteAuctionService promissoryNoteAuctionService;
+    private final AuctionDetailCache auctionDetailCache;
+    private final BidHistoryCache bidHistoryCache;
+    private final BidSequencer bidSequencer;
+    private final ThreadPoolTaskExecutor blockchainExecutor;
+    private final Web3j web3j;
+
+    @Value("${auction.bid.settlement.batch-size:50}")
+    private int batchSize;
+
+    @Value("${auction.bid.settlement.stale-after-seconds:900}")
+    private long staleAfterSeconds;
+
+    public BidOutboxSettler(BidOutboxRepository bidOutboxRepository,
+                            BidSettlementService bidSettlementService,
+                            PromissoryNoteAuctionService promissoryNoteAuctionService,
+                            AuctionDetailCache auctionDetailCache,
+                            BidHistoryCache bidHistoryCache,
+                            BidSequencer bidSequencer,
+                            @Qualifier(AsyncConfig.BLOCKCHAIN_EXECUTOR) ThreadPoolTaskExecutor blockchainExecutor,
+                            Web3j web3j) {
+        this.bidOutboxRepository = bidOutboxRepository;
+        this.bidSettlementService = bidSettlementService;
+        this.promissoryNoteAuctionService = promissoryNoteAuctionService;
+        this.auctionDetailCache = auctionDetailCache;
+        this.bidHistoryCache = bidHistoryCache;
+        this.bidSequencer = bidSequencer;
+        this.blockchainExecutor = blockchainExecutor;
+        this.web3j = web3j;
+    }
+
+    @Scheduled(fixedDelayString = "${auction.bid.settlement.interval-ms:500}")
+    public void settle() {
+        List<BidOutbox> pending = bidOutboxRepository.findByStatusOrderByOutboxIdAsc(
+                SysCommonCodes.BidSettlement.PENDING, PageRequest.of(0, batchSize));
+
+        Set<Integer> auctionIds = new HashSet<>();
+        for (BidOutbox outbox : pending) {
+            // 경매별로 가장 오래된 건만 처리
+            if (!auctionIds.add(outbox.getAuctionId())) {
+                continue;
+            }
+            if (bidOutboxRepository.existsByAuctionIdAndStatus(outbox.getAuctionId(), SysCommonCodes.BidSettlement.SUBMITTED)) {
+                continue;
+            }
+            if (bidOutboxRepository.transition(outbox.getOutboxId(), SysCommonCodes.BidSettlement.PENDING,
+                    SysCommonCodes.BidSettlement.SUBMITTED, ZonedDateTime.now()) == 0) {
+                continue;
+            }
+
+            blockchainExecutor.execute(() -> submit(outbox));
+        }
+    }
+
+    /**
+     * 오래된 SUBMITTED 정리 (서버 중단, 결과 불명, 확정/거절 저장 실패로 남은 건)
+     * - 트랜잭션 해시가 있으면 영수증으로 판단, 아직 멤풀에 있으면 다음 주기까지 대기
+     * - 해시가 없거나 트랜잭션이 사라졌으면 컨트랙트의 현재 입찰자/입찰 금액이 이 입찰과 같은지로 판단
+     * - 같은 경매의 다음 입찰은 SUBMITTED 가 정리될 때까지 전송되지 않으므로 체인 상태와 비교해도 안전
+     */
+    @Scheduled(fixedDelayString = "${auction.bid.settlement.reap-interval-ms:60000}")
+    public void reap() {
+        ZonedDateTime now = ZonedDateTime.now();
+        List<BidOutbox> stale = bidOutboxRepository.findByStatusAndUpdatedAtBeforeOrderByOutboxIdAsc(
+                SysCommonCodes.BidSettlement.SUBMITTED, now.minusSeconds(staleAfterSeconds), PageRequest.of(0, batchSize));
+
+        for (BidOutbox outbox : stale) {
+            if (bidOutboxRepository.claim(outbox.getOutboxId(), SysCommonCodes.BidSettlement.SUBMITTED,
+                    outbox.getUpdatedAt(), now) == 0) {
+                continue;
+            }
+
+            blockchainExecutor.execute(() -> resolve(outbox));
+        }
+    }
+
+    // RAB 예치 후 영수증 상태로 확정/거절
+    private void submit(BidOutbox outbox) {
+        TransactionReceipt receipt;
+        try {
+            receipt = promissoryNoteAuctionService.depositRAB(
+                    outbox.getTokenId(),
+                    BigInteger.valueOf(outbox.getBidAmount()),
+                    outbox.getBidderWallet()
+            );
+        } catch (Exception e) {
+            TransactionException txException = findTransactionException(e);
+            if (txException != null && txException.getTransactionReceipt().isPresent()) {
+                // 채굴됐지만 실패한 영수증 → 확실한 거절
+                receipt = txException.getTransactionReceipt().get();
+            } else {
+                // 타임아웃/연결 오류 등은 체인 반영 여부를 알 수 없으므로 거절하지 않고 리퍼에 맡김
+                String txHash = txException != null ? txException.getTransactionHash().orElse(null) : null;
+                log.error("[BidOutboxSettler] RAB 예치 결과 불명 - outboxId={}, auctionId={}, txHash={}, 오류={}",
+                        outbox.getOutboxId(), outbox.getAuctionId(), txHash, e.getMessage());
+                try {
+                    bidSettlementService.recordUnknown(outbox.getOutboxId(), txHash, e.getMessage());
+                } catch (Exception saveError) {
+                    log.error("[BidOutboxSettler] 결과 불명 기록 실패 - outboxId={}", outbox.getOutboxId(), saveError);
+                }
+                return;
+            }
+        }
+
+        try {
+            if ("0x1".equals(receipt.getStatus())) {
+                confirmed(outbox, receipt.getTransactionHash());
+            } else {
+                rejected(outbox, receipt.getTransactionHash(), "트랜잭션 상태: " + receipt.getStatus());
+            }
+        } catch (Exception e) {
+            // 예치 결과는 체인에 남아 있으므로 재전송하지 않고 SUBMITTED 로 남겨 리퍼가 정리
+            log.error("[BidOutboxSettler] 확정 상태 저장 실패 - outboxId={}, txHash={}",
+                    outbox.getOutboxId(), receipt.getTransactionHash(), e);
+        }
+    }
+
+    // 체인 상태로 SUBMITTED 확정/거절 (판단할 수 없으면 그대로 두고 다음 주기에 재시도)
+    private void resolve(BidOutbox outbox) {
+        try {
+            String txHash = outbox.getTransactionHash();
+            if (txHash != null) {
+                Optional<TransactionReceipt> receipt = web3j.ethGetTransactionReceipt(txHash).send().getTransactionReceipt();
+                if (receipt.isPresent()) {
+                    if ("0x1".equals(receipt.get().getStatus())) {
+                        confirmed(outbox, txHash);
+                    } else {
+                        rejected(outbox, txHash, "트랜잭션 상태: " + receipt.get().getStatus());
+                    }
+                    return;
+                }
+                if (web3j.ethTransaction(txHash).send().getTransaction().isPresent()) {
+                    log.info("[BidOutboxSettler] 예치 트랜잭션 대기 중 - outboxId={}, txHash={}", outbox.getOutboxId(), txHash);
+                    return;
+                }
+            }
+
+            BigInteger tokenId = outbox.getTokenId();
+            String currentBidder = RpcEndpointRouter.readFromPrimary(() -> promissoryNoteAuctionService.getCurrentBidder(tokenId));
+            BigInteger biddingAmount = RpcEndpointRouter.readFromPrimary(() -> promissoryNoteAuctionService.getBiddingAmount(tokenId));
+
+            if (outbox.getBidderWallet().equalsIgnoreCase(currentBidder)
+                    && BigInteger.valueOf(outbox.getBidAmount()).equals(biddingAmount)) {
+                confirmed(outbox, txHash);
+            } else {
+                rejected(outbox, txHash, "체인에 예치 내역 없음 (현재 입찰자=" + currentBidder + ", 금액=" + biddingAmount + ")");
+            }
+        } catch (Exception e) {
+            log.error("[BidOutboxSettler] SUBMITTED 정리 실패 - outboxId={}, auctionId={}",
+                    outbox.getOutboxId(), outbox.getAuctionId(), e);
+        }
+    }
+
+    private void confirmed(BidOutbox outbox, String txHash) {
+        bidSettlementService.confirm(outbox.getOutboxId(), txHash);
+        bidHistoryCache.updateStatus(outbox.getAuctionId(), outbox.getBidId(), SysCommonCodes.BidSettlement.CONFIRMED);
+    }
+
+    private void rejected(BidOutbox outbox, String txHash, String reason) {
+        bidSettlementService.reject(outbox.getOutboxId(), txHash, reason);
+        // 현재가가 되돌아갔으므로 모든 서버의 순서기 상태/경매 상세 캐시 무효화
+        bidSequencer.invalidate(outbox.getAuctionId());
+        auctionDetailCache.invalidate(outbox.getAuctionId());
+        bidHistoryCache.updateStatus(outbox.getAuctionId(), outbox.getBidId(), SysCommonCodes.BidSettlement.REJECTED);
+    }
+
+    private static TransactionException findTransactionException(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransactionException txException) {
+                return txException;
+            }
+        }
+        return null;
+    }
+}
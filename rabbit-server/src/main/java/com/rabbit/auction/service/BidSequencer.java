@@ -0,0 +1,252 @@
+package com.rabbit.auction.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.rabbit.auction.domain.entity.Auction;
+import com.rabbit.auction.repository.AuctionRepository;
+import com.rabbit.global.code.domain.enums.SysCommonCodes;
+import com.rabbit.global.exception.BusinessException;
+import com.rabbit.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 경매별 단일 작성자 입찰 순서기
+ * - 경매별 대기열(lane)에 넣고 공용 작업 풀에서 경매당 한 건씩 순서대로 처리
+ *   → 같은 경매의 입찰은 순서대로, 다른 경매의 입찰은 RAB 예치를 기다리는 동안에도 병렬로 처리
+ * - 현재가/최고 입찰자를 메모리에 들고 있다가 낮은 금액 입찰은 대기열에 넣기 전에 DB 잠금/체인 조회 없이 즉시 거절
+ *   (대기열 처리 시에도 같은 검사를 다시 하므로 앞선 입찰로 현재가가 오른 경우도 거절됨)
+ * - 통과한 입찰만 확정 단계(BidSettlementService)로 넘김
+ *
+ * 다른 서버에서 확정된 입찰 때문에 메모리 현재가가 실제보다 낮을 수는 있지만 높을 수는 없으므로
+ * (현재가는 올라가기만 함) 즉시 거절은 항상 안전하고, 통과한 입찰은 확정 단계의 행 잠금에서 다시 검증됨
+ * 예외적으로 현재가가 내려가거나(비동기 확정 모드의 예치 실패) 경매가 취소/종료되면 invalidate 로
+ * 모든 서버의 상태를 제거하고, 전파 메시지를 놓친 경우에 대비해 상태는 마지막 갱신 후 일정 시간이 지나면 다시 읽음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BidSequencer {
+
+    // 서버 간 상태 무효화 채널 (메시지 본문은 auctionId)
+    public static final String INVALIDATION_CHANNEL = "bid-sequencer-invalidation";
+
+    private final AuctionRepository auctionRepository;
+    private final MeterRegistry meterRegistry;
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${auction.bid.sequencer.threads:32}")
+    private int threadCount;
+
+    @Value("${auction.bid.sequencer.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${auction.bid.sequencer.timeout-ms:90000}")
+    private long timeoutMs;
+
+    @Value("${auction.bid.sequencer.state-max-age-minutes:5}")
+    private long stateMaxAgeMinutes;
+
+    private ThreadPoolExecutor workers;
+
+    // 경매별 대기 입찰 (키가 있으면 그 경매의 입찰이 처리 중, 빈 대기열이면 마지막 건 처리 중)
+    private final ConcurrentHashMap<Integer, ArrayDeque<Runnable>> lanes = new ConcurrentHashMap<>();
+
+    // 경매별 입찰 상태 (경매 대기열 처리 중에만 쓰고, 대기열에 넣기 전 즉시 거절 검사와 제거는 어느 스레드에서나 가능)
+    private Cache<Integer, AuctionBidState> states;
+
+    private Counter fastRejectCounter;
+
+    @PostConstruct
+    void init() {
+        states = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(stateMaxAgeMinutes))
+                .build();
+
+        // 대기 건수는 경매별 대기열에서 제한하므로 작업 풀 큐는 제한하지 않음
+        AtomicInteger threadIndex = new AtomicInteger();
+        workers = new ThreadPoolExecutor(threadCount, threadCount, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> new Thread(runnable, "bid-seq-" + threadIndex.getAndIncrement()));
+        ExecutorServiceMetrics.monitor(meterRegistry, workers, "bidSequencer", List.of());
+
+        fastRejectCounter = Counter.builder("auction.bid.fast-rejects")
+                .description("메모리 현재가 기준으로 즉시 거절된 입찰 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 입찰을 경매별 대기열에서 순서대로 처리
+     * - 메모리 상태로 거절할 수 있는 입찰은 대기열에 넣지 않고 즉시 BusinessException
+     * - 통과하면 settlement 실행 후 메모리 상태 갱신 (실패 시 상태를 버리고 다음 입찰에서 DB에서 다시 읽음)
+     */
+    public <T> T execute(Integer auctionId, Long bidAmount, Integer userId, Supplier<T> settlement) {
+        // 앞선 입찰의 확정을 기다리지 않고 거절 (상태가 없으면 대기열에서 DB로 읽은 뒤 검사)
+        AuctionBidState cached = states.getIfPresent(auctionId);
+        if (cached != null) {
+            rejectIfLosing(cached, bidAmount, userId);
+        }
+
+        FutureTask<T> future = new FutureTask<>(() -> sequence(auctionId, bidAmount, userId, settlement));
+        if (!enqueue(auctionId, future)) {
+            log.warn("[BidSequencer] 입찰 대기열 초과 - auctionId={}", auctionId);
+            throw new BusinessException(ErrorCode.BUSINESS_LOGIC_ERROR, "입찰 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "입찰 처리 중 오류가 발생했습니다.");
+        } catch (TimeoutException e) {
+            // 작업은 대기열에서 계속 진행되므로 취소하지 않음
+            log.warn("[BidSequencer] 입찰 처리 대기 시간 초과 - auctionId={}, userId={}", auctionId, userId);
+            throw new BusinessException(ErrorCode.BLOCKCHAIN_TIMEOUT, "입찰 처리 시간이 초과되었습니다. 입찰 내역을 확인해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "입찰 처리가 중단되었습니다.");
+        }
+    }
+
+    /**
+     * 모든 서버의 메모리 상태 제거 (현재가가 내려가거나 경매가 취소/종료됐을 때, DB 커밋 후 호출)
+     */
+    public void invalidate(Integer auctionId) {
+        evict(auctionId);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(auctionId));
+        } catch (Exception e) {
+            // 다른 서버는 상태 유지 시간이 지나면 DB에서 다시 읽음
+            log.warn("[BidSequencer] 상태 무효화 전파 실패 - auctionId={}, 오류={}", auctionId, e.getMessage());
+        }
+    }
+
+    /**
+     * 이 서버의 메모리 상태만 제거 (무효화 채널 수신 시)
+     */
+    public void evict(Integer auctionId) {
+        states.invalidate(auctionId);
+    }
+
+    // 경매 대기열에 추가 (처리 중인 건이 없으면 작업 풀에서 대기열 처리 시작)
+    private boolean enqueue(Integer auctionId, Runnable task) {
+        boolean[] accepted = new boolean[1];
+        boolean[] start = new boolean[1];
+        lanes.compute(auctionId, (id, lane) -> {
+            if (lane == null) {
+                lane = new ArrayDeque<>();
+                start[0] = true;
+            } else if (lane.size() >= queueCapacity) {
+                return lane;
+            }
+            lane.addLast(task);
+            accepted[0] = true;
+            return lane;
+        });
+        if (start[0]) {
+            try {
+                workers.execute(() -> drain(auctionId));
+            } catch (RejectedExecutionException e) {
+                // 종료 중이면 대기열을 비우고 거절
+                lanes.remove(auctionId);
+                return false;
+            }
+        }
+        return accepted[0];
+    }
+
+    // 작업 풀 스레드에서 경매 대기열이 빌 때까지 실행
+    private void drain(Integer auctionId) {
+        while (true) {
+            Runnable[] next = new Runnable[1];
+            lanes.computeIfPresent(auctionId, (id, lane) -> {
+                next[0] = lane.pollFirst();
+                return next[0] == null ? null : lane;
+            });
+            if (next[0] == null) {
+                return;
+            }
+            next[0].run();
+        }
+    }
+
+    // 경매 대기열 처리 중에 실행
+    private <T> T sequence(Integer auctionId, Long bidAmount, Integer userId, Supplier<T> settlement) {
+        AuctionBidState state = states.get(auctionId, this::loadState);
+        // 대기하는 동안 앞선 입찰로 현재가가 올랐을 수 있으므로 다시 검사
+        rejectIfLosing(state, bidAmount, userId);
+
+        try {
+            T result = settlement.get();
+            states.put(auctionId, state.accept(bidAmount, userId));
+            return result;
+        } catch (RuntimeException e) {
+            // 다른 서버의 입찰로 현재가가 바뀌었을 수 있으므로 다음 입찰은 DB에서 다시 읽음
+            states.invalidate(auctionId);
+            throw e;
+        }
+    }
+
+    // 메모리 상태 기준으로 이길 수 없는 입찰이면 BusinessException
+    private void rejectIfLosing(AuctionBidState state, Long bidAmount, Integer userId) {
+        if (state.endDate().isBefore(ZonedDateTime.now())) {
+            fastRejectCounter.increment();
+            throw new BusinessException(ErrorCode.BUSINESS_LOGIC_ERROR, "이미 마감된 경매입니다.");
+        }
+        if (state.price() != null && state.price() >= bidAmount) {
+            fastRejectCounter.increment();
+            throw new BusinessException(ErrorCode.BUSINESS_LOGIC_ERROR, "입찰 금액이 현재 경매가보다 낮습니다.");
+        }
+        if (state.assignorId().equals(userId)) {
+            fastRejectCounter.increment();
+            throw new BusinessException(ErrorCode.BUSINESS_LOGIC_ERROR, "양도자는 경매에 참여할 수 없습니다.");
+        }
+    }
+
+    private AuctionBidState loadState(Integer auctionId) {
+        Auction auction = auctionRepository.findById(auctionId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "해당 경매를 찾을 수 없습니다."));
+
+        if (auction.getAuctionStatus() != SysCommonCodes.Auction.ING) {
+            throw new BusinessException(ErrorCode.BUSINESS_LOGIC_ERROR, "진행중인 경매가 아닙니다.");
+        }
+
+        return new AuctionBidState(
+                auction.getPrice(),
+                auction.getWinningBidder(),
+                auction.getEndDate(),
+                auction.getAssignor().getUserId()
+        );
+    }
+
+    private record AuctionBidState(Long price, Integer winningBidder, ZonedDateTime endDate, Integer assignorId) {
+        AuctionBidState accept(Long bidAmount, Integer bidderId) {
+            return new AuctionBidState(bidAmount, bidderId, endDate, assignorId);
+        }
+    }
+}
@@ -1,30 +1,28 @@
 package com.rabbit.auction.service;
 
+import com.rabbit.auction.cache.AuctionDetailCache;
+import com.rabbit.auction.cache.BidHistoryCache;
 import com.rabbit.auction.domain.dto.request.BidRequestDTO;
+import com.rabbit.auction.domain.dto.response.BidPageResponseDTO;
 import com.rabbit.auction.domain.dto.response.BidResponseDTO;
-import com.rabbit.auction.domain.entity.Auction;
 import com.rabbit.auction.domain.entity.Bid;
 import com.rabbit.auction.repository.AuctionRepository;
 import com.rabbit.auction.repository.BidRepository;
-import com.rabbit.blockchain.service.PromissoryNoteAuctionService;
-import com.rabbit.blockchain.service.RabbitCoinService;
 import com.rabbit.global.code.domain.enums.SysCommonCodes;
 import com.rabbit.global.exception.BusinessException;
 import com.rabbit.global.exception.ErrorCode;
-import com.rabbit.notification.domain.dto.request.NotificationRequestDTO;
-import com.rabbit.notification.service.NotificationService;
 import com.rabbit.sse.domain.dto.response.NotiResponseDTO;
-import com.rabbit.sse.service.SseEventPublisher;
-import com.rabbit.user.domain.entity.MetamaskWallet;
-import com.rabbit.user.service.UserService;
-import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
-import java.math.BigInteger;
+import java.time.Instant;
+import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 @Service
@@ -33,116 +31,113 @@ import java.util.List;
 public class BidService {
     private final BidRepository bidRepository;
     private final AuctionRepository auctionRepository;
-    private final SseEventPublisher sseEventPublisher;
-    private final NotificationService notificationService;
-    private final UserService userService;
-    private final PromissoryNoteAuctionService promissoryNoteAuctionService;
-    private final RabbitCoinService rabbitCoinService;
-
-    @Transactional
+    private final BidSequencer bidSequencer;
+    private final BidSettlementService bidSettlementService;
+    private final AuctionDetailCache auctionDetailCache;
+    private final BidHistoryCache bidHistoryCache;
+
+    // true 면 입찰을 확정 대기로 접수하고 바로 응답 (RAB 예치는 BidOutboxSettler 가 처리)
+    @Value("${auction.bid.settlement.async:false}")
+    private boolean asyncSettlement;
+
+    // 입찰 내역 한 페이지 최대 건수
+    @Value("${auction.bid.history.max-page-size:100}")
+    private int maxPageSize;
+
+    /**
+     * 입찰 등록
+     * - 경매별 입찰 순서기를 거쳐 한 건씩 처리 (낮은 금액 입찰은 DB 잠금 없이 즉시 거절)
+     * - 동기 모드는 RAB 예치 채굴까지 기다리고, 비동기 모드는 접수만 하고 응답
+     * - 커밋 후 경매 상세 캐시 무효화 + 최근 입찰 캐시에 추가
+     */
     public void addBid(@Valid BidRequestDTO bidRequest, Integer auctionId, Integer userId) {
-        // 경매 존재하는지 확인
-        Auction auction = auctionRepository.findByIdForUpdate(auctionId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "해당 경매를 찾을 수 없습니다."));
-
-        // 경매가 마감되지 않았는지 확인
-        if(auction.getEndDate().isBefore(ZonedDateTime.now())){
-            throw new BusinessException(ErrorCode.BUSINESS_LOGIC_ERROR, "이미 마감된 경매입니다.");
-        }
-
-        // 입찰 금액이 현재 금액보다 큰지 확인
-        if(auction.getPrice()!=null && auction.getPrice()>=bidRequest.getBidAmount()){
-            throw new BusinessException(ErrorCode.BUSINESS_LOGIC_ERROR, "입찰 금액이 현재 경매가보다 낮습니다.");
-        }
-
-        // 양도자가 아닌지 확인
-        if(auction.getAssignor().getUserId().equals(userId)){
-            throw new BusinessException(ErrorCode.BUSINESS_LOGIC_ERROR, "양도자는 경매에 참여할 수 없습니다.");
-        }
+        BidResponseDTO bid = bidSequencer.execute(auctionId, bidRequest.getBidAmount(), userId,
+                () -> asyncSettlement
+                        ? bidSettlementService.accept(bidRequest, auctionId, userId)
+                        : bidSettlementService.settle(bidRequest, auctionId, userId));
 
-        //해당 입찰자에게 금액만큼 잔고가 있는지 확인
-        MetamaskWallet currentBidderWallet = userService.getWalletByUserIdAndPrimaryFlagTrue(userId);
-
-        Integer previousBidderId = auction.getWinningBidder();
-
-        BigInteger currentBalance = rabbitCoinService.balanceOf(currentBidderWallet.getWalletAddress());
-        BigInteger previousAmount = promissoryNoteAuctionService.getBiddingAmount(auction.getTokenId());
-        BigInteger bidAmount = BigInteger.valueOf(bidRequest.getBidAmount());
-
-        log.info("가진 금액 {}", currentBalance);
+        auctionDetailCache.invalidate(auctionId);
+        bidHistoryCache.append(auctionId, bid);
+    }
 
-        // 현재 입찰자가 가격을 올려서 입찰
-        if(previousBidderId!=null && previousBidderId.equals(userId)){
-            if(currentBalance.add(previousAmount).compareTo(bidAmount) < 0){
-                throw new BusinessException(ErrorCode.BUSINESS_LOGIC_ERROR, "입찰 금액이 부족합니다.");
+    /**
+     * 입찰 내역 조회 (최신순, (createdAt, bidId) 커서 페이지)
+     * - 커서 없는 첫 페이지는 Redis 의 최근 입찰 캐시에서 응답 (캐시가 비어 있으면 DB 에서 읽어 채움)
+     * - 다음 페이지는 커서 이전 입찰을 DB 에서 조회
+     */
+    public BidPageResponseDTO getBids(Integer auctionId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), maxPageSize);
+
+        if (cursor == null || cursor.isBlank()) {
+            if (pageSize <= bidHistoryCache.maxSize()) {
+                List<BidResponseDTO> cached = bidHistoryCache.getRecent(auctionId, pageSize + 1);
+                if (cached != null) {
+                    return toPage(cached, pageSize);
+                }
             }
-        }else{  //다른 사람이 입찰
-            if(currentBalance.compareTo(bidAmount) < 0){
-                throw new BusinessException(ErrorCode.BUSINESS_LOGIC_ERROR, "입찰 금액이 부족합니다.");
+
+            // DB 를 읽는 동안 확정 상태가 바뀌면 캐시를 채우지 않도록 읽기 전 버전을 기록
+            String cacheVersion = bidHistoryCache.version(auctionId);
+            List<BidResponseDTO> latest = toResponses(bidRepository.findLatestBids(auctionId,
+                    SysCommonCodes.BidSettlement.REJECTED,
+                    PageRequest.of(0, Math.max(pageSize, bidHistoryCache.maxSize()) + 1)));
+            if (latest.isEmpty()) {
+                checkAuctionExists(auctionId);
             }
+            bidHistoryCache.warm(auctionId, latest, cacheVersion);
+            return toPage(latest, pageSize);
         }
 
-        // 스마트 컨트랙트로 코인 예치 및 이전 사람에게는 돌려주기
-        promissoryNoteAuctionService.depositRAB(
-                auction.getTokenId(),                          // tokenId
-                BigInteger.valueOf(bidRequest.getBidAmount()),                // amount
-                currentBidderWallet.getWalletAddress()                                           // bidder address
-        );
-
-        Bid bid = Bid.builder()
-                .userId(userId)
-                .bidAmount(bidRequest.getBidAmount())
-                .auction(auction)
-                .bidderSign("") //메타마스크 서명 얻어오기
-                .createdAt(ZonedDateTime.now())
-                .build();
-
-        // 입찰목록에 추가
-        bidRepository.save(bid);
-
-        // auction에 현재가, 입찰자 업데이트
-        auction.updatePriceAndBidder(bidRequest.getBidAmount(), userId);
-
-        //SSE 전송
-        BidResponseDTO response = BidResponseDTO.builder()
-                .bidId(bid.getBidId())
-                .bidAmount(bid.getBidAmount())
-                .createdAt(bid.getCreatedAt())
-                .build();
-
-        sseEventPublisher.publish(
-                "bid-updated",                  // 타입
-                "auction-" + auctionId,         // 키
-                response                        // 데이터
-        );
-
-        if (previousBidderId != null && !previousBidderId.equals(userId)) {
-            notificationService.createNotification(
-                    NotificationRequestDTO.builder()
-                            .userId(previousBidderId)
-                            .type(SysCommonCodes.NotificationType.BID_FAILED)
-                            .relatedId(auctionId)
-                            .relatedType(SysCommonCodes.NotificationRelatedType.AUCTION)
-                            .build()
-            );
+        String[] parts = cursor.split("_");
+        ZonedDateTime cursorCreatedAt;
+        Integer cursorBidId;
+        try {
+            cursorCreatedAt = ZonedDateTime.ofInstant(
+                    Instant.EPOCH.plus(Long.parseLong(parts[0]), ChronoUnit.MICROS), ZoneId.systemDefault());
+            cursorBidId = Integer.valueOf(parts[1]);
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 커서입니다.");
         }
+
+        List<BidResponseDTO> bids = toResponses(bidRepository.findBidsBefore(auctionId,
+                SysCommonCodes.BidSettlement.REJECTED, cursorCreatedAt, cursorBidId,
+                PageRequest.of(0, pageSize + 1)));
+        return toPage(bids, pageSize);
     }
 
-    public List<BidResponseDTO> getBids(Integer auctionId) {
+    private void checkAuctionExists(Integer auctionId) {
         //경매가 존재하는지 확인
         if (!auctionRepository.existsById(auctionId)) {
             throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "해당 경매를 찾을 수 없습니다.");
         }
+    }
 
-        List<Bid> bids = bidRepository.findAllByAuction_AuctionIdOrderByCreatedAtDesc(auctionId);
-
-        List<BidResponseDTO> bidResponses = bids.stream()
+    private List<BidResponseDTO> toResponses(List<Bid> bids) {
+        return bids.stream()
                 .map(bid -> BidResponseDTO.builder()
                         .bidId(bid.getBidId())
                         .bidAmount(bid.getBidAmount())
                         .createdAt(bid.getCreatedAt())
+                        .settlementStatus(bid.getSettlementStatus())
                         .build())
                 .toList();
-        return bidResponses;
+    }
+
+    // pageSize + 1 건까지 받아서 다음 페이지 존재 여부와 커서 계산
+    private BidPageResponseDTO toPage(List<BidResponseDTO> bids, int pageSize) {
+        boolean hasNext = bids.size() > pageSize;
+        List<BidResponseDTO> content = hasNext ? bids.subList(0, pageSize) : bids;
+
+        String nextCursor = null;
+        if (hasNext) {
+            BidResponseDTO last = content.get(content.size() - 1);
+            nextCursor = ChronoUnit.MICROS.between(Instant.EPOCH, last.getCreatedAt().toInstant()) + "_" + last.getBidId();
+        }
+
+        return BidPageResponseDTO.builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
     }
 }
@@ -0,0 +1,312 @@
+package com.rabbit.auction.service;
+
+import com.rabbit.auction.domain.dto.request.BidRequestDTO;
+import com.rabbit.auction.domain.dto.response.BidResponseDTO;
+import com.rabbit.auction.domain.entity.Auction;
+import com.rabbit.auction.domain.entity.Bid;
+import com.rabbit.auction.domain.entity.BidOutbox;
+import com.rabbit.auction.repository.AuctionRepository;
+import com.rabbit.auction.repository.BidOutboxRepository;
+import com.rabbit.auction.repository.BidRepository;
+import com.rabbit.blockchain.service.PromissoryNoteAuctionService;
+import com.rabbit.blockchain.service.RabbitCoinService;
+import com.rabbit.global.code.domain.enums.SysCommonCodes;
+import com.rabbit.global.exception.BusinessException;
+import com.rabbit.global.exception.ErrorCode;
+import com.rabbit.notification.domain.dto.request.NotificationRequestDTO;
+import com.rabbit.notification.service.NotificationService;
+import com.rabbit.sse.service.SseEventPublisher;
+import com.rabbit.user.domain.entity.MetamaskWallet;
+import com.rabbit.user.service.UserService;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigInteger;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 입찰 확정 처리 (잔고 확인 → RAB 예치 → 입찰 저장 → 현재가 갱신 → SSE/알림)
+ * - 동기 모드: settle 에서 RAB 예치가 채굴될 때까지 기다린 뒤 응답 (예치 중에는 경매 행 잠금을 잡지 않음)
+ * - 비동기 모드: accept 에서 입찰을 확정 대기(PENDING)로 저장하고 바로 응답, BidOutboxSettler 가 예치 후 confirm/reject 호출
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class BidSettlementService {
+    private final BidRepository bidRepository;
+    private final AuctionRepository auctionRepository;
+    private final SseEventPublisher sseEventPublisher;
+    private final NotificationService notificationService;
+    private final UserService userService;
+    private final PromissoryNoteAuctionService promissoryNoteAuctionService;
+    private final RabbitCoinService rabbitCoinService;
+    private final AuctionListingService auctionListingService;
+    private final BidOutboxRepository bidOutboxRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 입찰 확정 (입찰 순서기에서 경매별로 한 건씩 실행)
+     * - 잔고/예치 금액 조회와 RAB 예치는 경매 행 잠금 밖에서 실행하고, 잠금은 입찰 저장 구간에서만 잡음
+     * - 다른 서버와 동시에 입찰해도 컨트랙트가 이전 예치 금액보다 낮은 예치를 거절하므로 체인 순서가 보장됨
+     */
+    public BidResponseDTO settle(BidRequestDTO bidRequest, Integer auctionId, Integer userId) {
+        BidCheck check = check(bidRequest, auctionId, userId);
+
+        // 스마트 컨트랙트로 코인 예치 및 이전 사람에게는 돌려주기
+        promissoryNoteAuctionService.depositRAB(
+                check.tokenId(),                          // tokenId
+                BigInteger.valueOf(bidRequest.getBidAmount()),                // amount
+                check.wallet().getWalletAddress()                                           // bidder address
+        );
+
+        SettledBid settled = transactionTemplate.execute(status -> {
+            Auction auction = auctionRepository.findByIdForUpdate(auctionId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "해당 경매를 찾을 수 없습니다."));
+            Integer previousBidderId = auction.getWinningBidder();
+            return new SettledBid(saveBid(auction, bidRequest.getBidAmount(), userId, null), previousBidderId);
+        });
+
+        //SSE 전송
+        BidResponseDTO response = toResponse(settled.bid());
+        publish("bid-updated", auctionId, response);
+
+        notifyOutbid(settled.previousBidderId(), userId, auctionId);
+
+        return response;
+    }
+
+    /**
+     * 입찰 접수 (비동기 확정 모드)
+     * - 체인 조회로 사전 검증한 뒤, 경매 행 잠금 안에서 다시 검증하고 입찰/아웃박스를 PENDING 으로 저장해 현재가를 먼저 올림
+     * - RAB 예치는 BidOutboxSettler 가 처리
+     */
+    public BidResponseDTO accept(BidRequestDTO bidRequest, Integer auctionId, Integer userId) {
+        BidCheck check = check(bidRequest, auctionId, userId);
+
+        Bid bid = transactionTemplate.execute(status -> {
+            Auction auction = lock(bidRequest, auctionId, userId, check);
+
+            Bid saved = saveBid(auction, bidRequest.getBidAmount(), userId, SysCommonCodes.BidSettlement.PENDING);
+
+            bidOutboxRepository.save(BidOutbox.builder()
+                    .bidId(saved.getBidId())
+                    .auctionId(auctionId)
+                    .tokenId(auction.getTokenId())
+                    .userId(userId)
+                    .bidderWallet(check.wallet().getWalletAddress())
+                    .bidAmount(saved.getBidAmount())
+                    .previousBidderId(check.previousBidderId())
+                    .status(SysCommonCodes.BidSettlement.PENDING)
+                    .createdAt(ZonedDateTime.now())
+                    .build());
+            return saved;
+        });
+
+        BidResponseDTO response = toResponse(bid);
+        publish("bid-updated", auctionId, response);
+
+        return response;
+    }
+
+    /**
+     * 입찰 확정 완료 (RAB 예치 성공)
+     */
+    @Transactional
+    public void confirm(Long outboxId, String transactionHash) {
+        BidOutbox outbox = bidOutboxRepository.findById(outboxId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "입찰 확정 정보를 찾을 수 없습니다."));
+        outbox.confirm(transactionHash);
+
+        Bid bid = bidRepository.findById(outbox.getBidId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "해당 입찰을 찾을 수 없습니다."));
+        bid.setSettlementStatus(SysCommonCodes.BidSettlement.CONFIRMED);
+
+        log.info("[BidSettlement] 입찰 확정 - auctionId={}, bidId={}, txHash={}", outbox.getAuctionId(), bid.getBidId(), transactionHash);
+
+        publish("bid-confirmed", outbox.getAuctionId(), toResponse(bid));
+
+        notifyOutbid(outbox.getPreviousBidderId(), outbox.getUserId(), outbox.getAuctionId());
+    }
+
+    /**
+     * 예치 결과 불명 (타임아웃/연결 오류 등)
+     * - 체인에 반영됐을 수 있으므로 거절하지 않고 SUBMITTED 로 남김, BidOutboxSettler.reap 이 체인 상태로 확정/거절
+     */
+    @Transactional
+    public void recordUnknown(Long outboxId, String transactionHash, String reason) {
+        BidOutbox outbox = bidOutboxRepository.findById(outboxId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "입찰 확정 정보를 찾을 수 없습니다."));
+        outbox.recordUnknown(transactionHash, reason);
+
+        log.warn("[BidSettlement] 입찰 예치 결과 불명 - auctionId={}, bidId={}, txHash={}, 사유={}",
+                outbox.getAuctionId(), outbox.getBidId(), transactionHash, reason);
+    }
+
+    /**
+     * 입찰 거절 (RAB 예치 실패)
+     * - 거절되지 않은 입찰 중 최고가로 경매 현재가/최고 입찰자를 되돌림 (없으면 최소 입찰가)
+     * - 현재가가 내려가므로 호출한 쪽에서 커밋 후 BidSequencer.invalidate 로 모든 서버의 순서기 상태를 제거해야 함
+     */
+    @Transactional
+    public void reject(Long outboxId, String transactionHash, String reason) {
+        BidOutbox outbox = bidOutboxRepository.findById(outboxId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "입찰 확정 정보를 찾을 수 없습니다."));
+        outbox.reject(transactionHash, reason);
+
+        Bid bid = bidRepository.findById(outbox.getBidId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "해당 입찰을 찾을 수 없습니다."));
+        bid.setSettlementStatus(SysCommonCodes.BidSettlement.REJECTED);
+
+        Auction auction = auctionRepository.findByIdForUpdate(outbox.getAuctionId())
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "해당 경매를 찾을 수 없습니다."));
+
+        List<Bid> bids = bidRepository.findAllByAuction_AuctionIdOrderByBidAmountDescCreatedAtAsc(auction.getAuctionId());
+        Bid highestBid = bids.stream()
+                .filter(candidate -> candidate.getSettlementStatus() != SysCommonCodes.BidSettlement.REJECTED)
+                .findFirst()
+                .orElse(null);
+
+        if (highestBid != null) {
+            auction.updatePriceAndBidder(highestBid.getBidAmount(), highestBid.getUserId());
+        } else {
+            auction.updatePriceAndBidder(auction.getMinimumBid(), null);
+        }
+        auctionListingService.updatePrice(auction.getAuctionId(), auction.getPrice());
+
+        log.warn("[BidSettlement] 입찰 거절 - auctionId={}, bidId={}, 사유={}", auction.getAuctionId(), bid.getBidId(), reason);
+
+        publish("bid-updated", auction.getAuctionId(), toResponse(bid));
+    }
+
+    // 잠금 없이 마감/금액/양도자/잔고 사전 검증 (체인 조회는 경매 행 잠금 밖에서 실행)
+    private BidCheck check(BidRequestDTO bidRequest, Integer auctionId, Integer userId) {
+        // 경매 존재하는지 확인
+        Auction auction = auctionRepository.findById(auctionId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "해당 경매를 찾을 수 없습니다."));
+
+        verify(auction, bidRequest.getBidAmount(), userId);
+
+        //해당 입찰자에게 금액만큼 잔고가 있는지 확인
+        MetamaskWallet currentBidderWallet = userService.getWalletByUserIdAndPrimaryFlagTrue(userId);
+
+        Integer previousBidderId = auction.getWinningBidder();
+
+        BigInteger currentBalance = rabbitCoinService.balanceOf(currentBidderWallet.getWalletAddress());
+        BigInteger previousAmount = promissoryNoteAuctionService.getBiddingAmount(auction.getTokenId());
+        BigInteger bidAmount = BigInteger.valueOf(bidRequest.getBidAmount());
+
+        log.info("가진 금액 {}", currentBalance);
+
+        // 현재 입찰자가 가격을 올려서 입찰
+        if(previousBidderId!=null && previousBidderId.equals(userId)){
+            if(currentBalance.add(previousAmount).compareTo(bidAmount) < 0){
+                throw new BusinessException(ErrorCode.BUSINESS_LOGIC_ERROR, "입찰 금액이 부족합니다.");
+            }
+        }else{  //다른 사람이 입찰
+            if(currentBalance.compareTo(bidAmount) < 0){
+                throw new BusinessException(ErrorCode.BUSINESS_LOGIC_ERROR, "입찰 금액이 부족합니다.");
+            }
+        }
+
+        return new BidCheck(auction.getTokenId(), currentBidderWallet, previousBidderId);
+    }
+
+    // 경매 잠금 후 사전 검증 이후 다른 서버의 입찰로 바뀐 내용이 없는지 재확인
+    private Auction lock(BidRequestDTO bidRequest, Integer auctionId, Integer userId, BidCheck check) {
+        Auction auction = auctionRepository.findByIdForUpdate(auctionId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "해당 경매를 찾을 수 없습니다."));
+
+        verify(auction, bidRequest.getBidAmount(), userId);
+
+        // 최고 입찰자가 바뀌었으면 사전 검증한 잔고 기준이 달라지므로 다시 시도
+        if (!Objects.equals(auction.getWinningBidder(), check.previousBidderId())) {
+            throw new BusinessException(ErrorCode.BUSINESS_LOGIC_ERROR, "다른 입찰이 먼저 처리되었습니다. 다시 시도해주세요.");
+        }
+
+        return auction;
+    }
+
+    // 마감/금액/양도자 검증
+    private void verify(Auction auction, Long bidAmount, Integer userId) {
+        // 경매가 마감되지 않았는지 확인
+        if(auction.getEndDate().isBefore(ZonedDateTime.now())){
+            throw new BusinessException(ErrorCode.BUSINESS_LOGIC_ERROR, "이미 마감된 경매입니다.");
+        }
+
+        // 입찰 금액이 현재 금액보다 큰지 확인
+        if(auction.getPrice()!=null && auction.getPrice()>=bidAmount){
+            throw new BusinessException(ErrorCode.BUSINESS_LOGIC_ERROR, "입찰 금액이 현재 경매가보다 낮습니다.");
+        }
+
+        // 양도자가 아닌지 확인
+        if(auction.getAssignor().getUserId().equals(userId)){
+            throw new BusinessException(ErrorCode.BUSINESS_LOGIC_ERROR, "양도자는 경매에 참여할 수 없습니다.");
+        }
+    }
+
+    // 입찰 저장 + 경매 현재가/입찰자 갱신
+    private Bid saveBid(Auction auction, Long bidAmount, Integer userId, SysCommonCodes.BidSettlement settlementStatus) {
+        Bid bid = Bid.builder()
+                .userId(userId)
+                .bidAmount(bidAmount)
+                .auction(auction)
+                .bidderSign("") //메타마스크 서명 얻어오기
+                .createdAt(ZonedDateTime.now().truncatedTo(ChronoUnit.MICROS))  // DB 정밀도에 맞춰 입찰 내역 커서와 일치시킴
+                .settlementStatus(settlementStatus)
+                .build();
+
+        // 입찰목록에 추가
+        bidRepository.save(bid);
+
+        // auction에 현재가, 입찰자 업데이트 (동기 모드에서 예치 후 더 높은 입찰이 먼저 저장됐으면 내역만 남김)
+        if (auction.getPrice() == null || auction.getPrice() < bidAmount) {
+            auction.updatePriceAndBidder(bidAmount, userId);
+            auctionListingService.updatePrice(auction.getAuctionId(), bidAmount);
+        }
+
+        return bid;
+    }
+
+    private BidResponseDTO toResponse(Bid bid) {
+        return BidResponseDTO.builder()
+                .bidId(bid.getBidId())
+                .bidAmount(bid.getBidAmount())
+                .createdAt(bid.getCreatedAt())
+                .settlementStatus(bid.getSettlementStatus())
+                .build();
+    }
+
+    private void publish(String type, Integer auctionId, BidResponseDTO response) {
+        sseEventPublisher.publish(
+                type,                           // 타입
+                "auction-" + auctionId,         // 키
+                response                        // 데이터
+        );
+    }
+
+    // 이전 최고 입찰자에게 입찰 실패 알림
+    private void notifyOutbid(Integer previousBidderId, Integer userId, Integer auctionId) {
+        if (previousBidderId != null && !previousBidderId.equals(userId)) {
+            notificationService.createNotification(
+                    NotificationRequestDTO.builder()
+                            .userId(previousBidderId)
+                            .type(SysCommonCodes.NotificationType.BID_FAILED)
+                            .relatedId(auctionId)
+                            .relatedType(SysCommonCodes.NotificationRelatedType.AUCTION)
+                            .build()
+            );
+        }
+    }
+
+    private record BidCheck(BigInteger tokenId, MetamaskWallet wallet, Integer previousBidderId) {
+    }
+
+    private record SettledBid(Bid bid, Integer previousBidderId) {
+    }
+}
@@ -0,0 +1,259 @@
+package com.rabbit.auction.service;
+
+import com.rabbit.auction.domain.dto.response.ComparisonAuctionResponseDTO;
+import com.rabbit.auction.domain.entity.Auction;
+import com.rabbit.auction.repository.AuctionRepository;
+import com.tdunning.math.stats.MergingDigest;
+import com.tdunning.math.stats.TDigest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 낙찰 경매 수익률 분포 (유사 경매 백분위 계산용)
+ * - 잔여 원금/잔여 상환일을 로그 구간으로 나눈 버킷마다 수익률 t-digest 와 표본(경매 ID, 원금, 상환일, 수익률)을 보관
+ * - 조회 시 ±10% 범위 안에 완전히 들어가는 버킷은 t-digest 를 합치고, 범위 경계에 걸친 버킷은 표본을 하나씩 걸러서 추가
+ *   → 범위 밖 경매는 백분위에 섞이지 않음 (낙찰 이력 전체를 DB 에서 읽지 않음)
+ * - 기준 경매 자신은 비교 대상에서 제외 (합친 t-digest 에 포함돼 있으면 백분위 계산 시 한 건을 빼서 보정)
+ * - 낙찰 시 해당 버킷에 바로 추가하고, 다른 서버의 낙찰은 주기적 재구성으로 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReturnRateSketchService {
+
+    // 유사 경매 범위 (기준값 ±10%)
+    private static final double SIMILAR_RANGE = 0.1;
+
+    private final AuctionRepository auctionRepository;
+
+    // 버킷 경계 비율 (1.05 면 5% 간격)
+    @Value("${auction.similar.bucket-ratio:1.05}")
+    private double bucketRatio;
+
+    // t-digest 압축 계수 (클수록 정확하고 메모리를 더 씀)
+    @Value("${auction.similar.compression:100}")
+    private double compression;
+
+    // 응답에 포함하는 최대 비교 경매 수
+    @Value("${auction.similar.sample-size:50}")
+    private int sampleSize;
+
+    private volatile Map<BucketKey, Bucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * 서버 시작 시 낙찰 이력으로 분포 구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        rebuild();
+    }
+
+    /**
+     * 낙찰 이력으로 분포 재구성 (다른 서버에서 낙찰된 경매 반영)
+     */
+    @Scheduled(fixedDelayString = "${auction.similar.rebuild-interval-ms:600000}", initialDelayString = "${auction.similar.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        List<ComparisonAuctionResponseDTO> samples = auctionRepository.findCompletedReturnRates();
+
+        Map<BucketKey, Bucket> rebuilt = new ConcurrentHashMap<>();
+        for (ComparisonAuctionResponseDTO sample : samples) {
+            add(rebuilt, sample);
+        }
+        buckets = rebuilt;
+
+        log.info("[ReturnRateSketch] 수익률 분포 재구성 - 경매 {}건, 버킷 {}개", samples.size(), rebuilt.size());
+    }
+
+    /**
+     * 낙찰된 경매를 분포에 추가 (수익률 정보가 없으면 무시)
+     */
+    public void add(Auction auction) {
+        if (auction.getRemainPrincipal() == null || auction.getRemainRepaymentDate() == null || auction.getReturnRate() == null) {
+            return;
+        }
+
+        add(buckets, new ComparisonAuctionResponseDTO(
+                auction.getAuctionId(),
+                auction.getRemainPrincipal(),
+                auction.getRemainRepaymentDate(),
+                auction.getReturnRate()
+        ));
+    }
+
+    /**
+     * 잔여 원금/잔여 상환일 ±10% 범위 낙찰 경매의 수익률 분포 조회
+     */
+    public Distribution getDistribution(Integer auctionId, long basePrincipal, int baseDays) {
+        long minPrincipal = (long) Math.ceil(basePrincipal * (1 - SIMILAR_RANGE));
+        long maxPrincipal = (long) Math.floor(basePrincipal * (1 + SIMILAR_RANGE));
+        int minDays = (int) (baseDays * (1 - SIMILAR_RANGE));
+        int maxDays = (int) (baseDays * (1 + SIMILAR_RANGE));
+
+        MergingDigest digest = new MergingDigest(compression);
+        List<ComparisonAuctionResponseDTO> samples = new ArrayList<>();
+        Double excludedRate = null;
+
+        Map<BucketKey, Bucket> current = buckets;
+        for (int principalIndex = principalIndex(minPrincipal); principalIndex <= principalIndex(maxPrincipal); principalIndex++) {
+            for (int daysIndex = daysIndex(minDays); daysIndex <= daysIndex(maxDays); daysIndex++) {
+                Bucket bucket = current.get(new BucketKey(principalIndex, daysIndex));
+                if (bucket == null) {
+                    continue;
+                }
+
+                if (isInside(principalIndex, daysIndex, minPrincipal, maxPrincipal, minDays, maxDays)) {
+                    // 버킷 전체가 범위 안 → t-digest 를 그대로 합침 (기준 경매가 들어 있으면 백분위에서 보정)
+                    Double rate = bucket.collect(digest, samples, auctionId);
+                    if (rate != null) {
+                        excludedRate = rate;
+                    }
+                } else {
+                    // 범위 경계에 걸친 버킷 → 범위 안 표본만 추가
+                    bucket.collectWithin(digest, samples, auctionId, minPrincipal, maxPrincipal, minDays, maxDays);
+                }
+            }
+        }
+
+        List<ComparisonAuctionResponseDTO> comparisons = samples.stream()
+                .filter(sample -> !sample.getAuctionId().equals(auctionId))
+                .sorted(Comparator.comparing(ComparisonAuctionResponseDTO::getRr))
+                .toList();
+
+        return new Distribution(digest, excludedRate, thin(comparisons));
+    }
+
+    // 버킷의 원금/상환일 구간이 범위 안에 완전히 들어가는지 (부동소수 오차를 고려해 애매하면 경계 버킷으로 처리)
+    private boolean isInside(int principalIndex, int daysIndex, long minPrincipal, long maxPrincipal, int minDays, int maxDays) {
+        double principalFrom = Math.pow(bucketRatio, principalIndex);
+        double principalTo = Math.pow(bucketRatio, principalIndex + 1);
+        double daysFrom = Math.pow(bucketRatio, daysIndex) - 1;
+        double daysTo = Math.pow(bucketRatio, daysIndex + 1) - 1;
+
+        return principalFrom > minPrincipal && principalTo < maxPrincipal
+                && daysFrom > minDays && daysTo < maxDays;
+    }
+
+    private void add(Map<BucketKey, Bucket> target, ComparisonAuctionResponseDTO sample) {
+        BucketKey key = new BucketKey(principalIndex(sample.getRp()), daysIndex(sample.getRd()));
+        target.computeIfAbsent(key, k -> new Bucket(new MergingDigest(compression)))
+                .add(sample);
+    }
+
+    // 수익률 순으로 고르게 sampleSize 개만 남김 (차트용)
+    private List<ComparisonAuctionResponseDTO> thin(List<ComparisonAuctionResponseDTO> sorted) {
+        if (sorted.size() <= sampleSize) {
+            return sorted;
+        }
+
+        List<ComparisonAuctionResponseDTO> thinned = new ArrayList<>(sampleSize);
+        double step = (double) sorted.size() / sampleSize;
+        for (int i = 0; i < sampleSize; i++) {
+            thinned.add(sorted.get((int) (i * step)));
+        }
+        return thinned;
+    }
+
+    private int principalIndex(long principal) {
+        return (int) Math.floor(Math.log(Math.max(principal, 1L)) / Math.log(bucketRatio));
+    }
+
+    // 잔여 상환일은 0일 수 있으므로 +1 해서 로그 구간 계산
+    private int daysIndex(int days) {
+        return (int) Math.floor(Math.log(Math.max(days, 0) + 1.0) / Math.log(bucketRatio));
+    }
+
+    private record BucketKey(int principalIndex, int daysIndex) {
+    }
+
+    /**
+     * 버킷 (t-digest 는 스레드 안전하지 않으므로 버킷 단위로 동기화)
+     */
+    private static final class Bucket {
+        private final TDigest digest;
+        private final Map<Integer, ComparisonAuctionResponseDTO> samples = new HashMap<>();
+
+        private Bucket(TDigest digest) {
+            this.digest = digest;
+        }
+
+        synchronized void add(ComparisonAuctionResponseDTO sample) {
+            // 같은 경매가 다시 들어오면(재구성 전 중복 추가) 분포에 두 번 반영하지 않음
+            if (samples.putIfAbsent(sample.getAuctionId(), sample) == null) {
+                digest.add(sample.getRr().doubleValue());
+            }
+        }
+
+        /**
+         * t-digest 와 표본을 모두 추가하고, 제외할 경매가 이 버킷에 있으면 그 수익률 반환
+         */
+        synchronized Double collect(TDigest merged, List<ComparisonAuctionResponseDTO> collected, Integer excludedAuctionId) {
+            merged.add(digest);
+            collected.addAll(samples.values());
+            ComparisonAuctionResponseDTO excluded = samples.get(excludedAuctionId);
+            return excluded != null ? excluded.getRr().doubleValue() : null;
+        }
+
+        // 범위 안 표본만 하나씩 추가 (제외할 경매는 건너뜀)
+        synchronized void collectWithin(TDigest merged, List<ComparisonAuctionResponseDTO> collected, Integer excludedAuctionId,
+                                        long minPrincipal, long maxPrincipal, int minDays, int maxDays) {
+            for (ComparisonAuctionResponseDTO sample : samples.values()) {
+                if (sample.getAuctionId().equals(excludedAuctionId)) {
+                    continue;
+                }
+                if (sample.getRp() < minPrincipal || sample.getRp() > maxPrincipal
+                        || sample.getRd() < minDays || sample.getRd() > maxDays) {
+                    continue;
+                }
+                merged.add(sample.getRr().doubleValue());
+                collected.add(sample);
+            }
+        }
+    }
+
+    /**
+     * 유사 경매 수익률 분포
+     */
+    public static final class Distribution {
+        private final TDigest digest;
+        // 합친 t-digest 에 들어 있는 기준 경매의 수익률 (없으면 null)
+        private final Double excludedRate;
+        private final List<ComparisonAuctionResponseDTO> comparisons;
+
+        private Distribution(TDigest digest, Double excludedRate, List<ComparisonAuctionResponseDTO> comparisons) {
+            this.digest = digest;
+            this.excludedRate = excludedRate;
+            this.comparisons = comparisons;
+        }
+
+        /**
+         * 수익률이 returnRate 이하인 낙찰 경매 비율 (0~100, 비교 대상이 없으면 0)
+         * - 기준 경매가 분포에 들어 있으면 전체/이하 건수에서 한 건씩 빼서 계산
+         */
+        public int percentile(double returnRate) {
+            double total = digest.size();
+            double atOrBelow = digest.cdf(returnRate) * total;
+            if (excludedRate != null) {
+                total -= 1;
+                if (excludedRate <= returnRate) {
+                    atOrBelow -= 1;
+                }
+            }
+            if (total <= 0) {
+                return 0;
+            }
+            return (int) Math.round(Math.min(Math.max(atOrBelow / total, 0), 1) * 100);
+        }
+
+        public List<ComparisonAuctionResponseDTO> comparisons() {
+            return comparisons;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.rabbit.blockchain.cache;
+
+import com.rabbit.blockchain.wrapper.RepaymentScheduler;
+import com.rabbit.global.config.CacheConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상환 정보(RepaymentInfo) 스냅샷 캐시
+ * - 스냅샷마다 조회 시점의 블록 번호를 함께 저장
+ * - 블록/시간 허용 범위 안의 스냅샷만 캐시에서 응답 (시간 범위는 캐시 만료로 처리)
+ * - 상환/연체 이벤트가 감지되면 해당 토큰 스냅샷 삭제
+ */
+@Slf4j
+@Component
+public class RepaymentInfoSnapshotCache {
+
+    private final Cache cache;
+
+    // 허용하는 최대 블록 차이
+    private final long maxBlockLag;
+
+    // 이 서버의 인덱서가 마지막으로 확인한 최신 블록 (null 이면 아직 확인 전)
+    private volatile BigInteger latestKnownBlock;
+
+    // 토큰별 마지막 무효화 블록 - 이보다 이전 블록 기준으로 읽은 스냅샷은 저장하지 않음
+    private final Map<BigInteger, BigInteger> invalidatedBlocks = new ConcurrentHashMap<>();
+
+    public RepaymentInfoSnapshotCache(CacheManager cacheManager,
+                                      @Value("${cache.repayment-info.max-block-lag:5}") long maxBlockLag) {
+        this.cache = cacheManager.getCache(CacheConfig.REPAYMENT_INFO_SNAPSHOT);
+        this.maxBlockLag = maxBlockLag;
+    }
+
+    /**
+     * 허용 범위 안의 스냅샷이 있으면 반환, 없으면 null
+     */
+    public RepaymentScheduler.RepaymentInfo get(BigInteger tokenId) {
+        Snapshot snapshot = cache.get(tokenId, Snapshot.class);
+        if (snapshot == null) {
+            return null;
+        }
+
+        BigInteger currentBlock = latestKnownBlock;
+        if (currentBlock != null && snapshot.blockNumber() != null
+                && currentBlock.subtract(snapshot.blockNumber()).longValue() > maxBlockLag) {
+            cache.evict(tokenId);
+            return null;
+        }
+        return snapshot.repaymentInfo();
+    }
+
+    /**
+     * 조회 시작 시점의 블록 번호 (스냅샷 버전으로 사용)
+     */
+    public BigInteger currentBlock() {
+        return latestKnownBlock;
+    }
+
+    /**
+     * 스냅샷 저장
+     *
+     * @param readBlock 조회를 시작할 때의 {@link #currentBlock()} 값
+     */
+    public void put(BigInteger tokenId, RepaymentScheduler.RepaymentInfo repaymentInfo, BigInteger readBlock) {
+        BigInteger invalidatedBlock = invalidatedBlocks.get(tokenId);
+        if (invalidatedBlock != null && (readBlock == null || invalidatedBlock.compareTo(readBlock) > 0)) {
+            // 조회 도중 상환 이벤트가 발생했을 수 있으므로 캐시하지 않음
+            return;
+        }
+        cache.put(tokenId, new Snapshot(repaymentInfo, readBlock));
+    }
+
+    /**
+     * 토큰 스냅샷 무효화
+     *
+     * @param blockNumber 상태가 바뀐 블록 번호
+     */
+    public void invalidate(BigInteger tokenId, BigInteger blockNumber) {
+        if (blockNumber != null) {
+            invalidatedBlocks.merge(tokenId, blockNumber, BigInteger::max);
+        }
+        cache.evict(tokenId);
+        log.info("[RepaymentInfoCache] 스냅샷 무효화 - 토큰 ID: {}, 블록: {}", tokenId, blockNumber);
+    }
+
+    /**
+     * 최신 블록 갱신 (인덱서 폴링마다)
+     */
+    public void updateLatestBlock(BigInteger blockNumber) {
+        this.latestKnownBlock = blockNumber;
+
+        // 허용 범위를 지난 무효화 기록은 더 이상 필요 없음
+        invalidatedBlocks.values().removeIf(block ->
+                blockNumber.subtract(block).longValue() > maxBlockLag);
+    }
+
+    private record Snapshot(RepaymentScheduler.RepaymentInfo repaymentInfo, BigInteger blockNumber) {
+    }
+}
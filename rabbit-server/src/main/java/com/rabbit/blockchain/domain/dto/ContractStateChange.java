@@ -0,0 +1,17 @@
+package com.rabbit.blockchain.domain.dto;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 인덱서가 저장한 블록 구간에서 캐시 무효화가 필요한 체인 상태 변경 (서버 간 전파용)
+ *
+ * @param transferredTokenIds 양도(AppendixNFTMinted)로 메타데이터가 바뀐 원본 차용증 토큰 ID
+ * @param repaymentChanges 상환/연체 이벤트로 상환 정보가 바뀐 토큰과 블록 번호
+ */
+public record ContractStateChange(Set<BigInteger> transferredTokenIds, List<RepaymentChange> repaymentChanges) {
+
+    public record RepaymentChange(BigInteger tokenId, BigInteger blockNumber) {
+    }
+}
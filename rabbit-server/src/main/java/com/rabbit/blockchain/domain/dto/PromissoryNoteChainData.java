@@ -0,0 +1,25 @@
+package com.rabbit.blockchain.domain.dto;
+
+import com.rabbit.blockchain.wrapper.PromissoryNote;
+import com.rabbit.blockchain.wrapper.RepaymentScheduler;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigInteger;
+
+/**
+ * 토큰 하나에 대해 배치 조회한 차용증 메타데이터 + 상환 정보
+ * - 조회에 실패한 항목은 null
+ */
+@Getter
+@AllArgsConstructor
+public class PromissoryNoteChainData {
+    private final BigInteger tokenId;
+    private final PromissoryNote.PromissoryMetadata metadata;
+    private final RepaymentScheduler.RepaymentInfo repaymentInfo;
+
+    // 메타데이터와 상환 정보를 모두 조회했는지
+    public boolean isComplete() {
+        return metadata != null && repaymentInfo != null;
+    }
+}
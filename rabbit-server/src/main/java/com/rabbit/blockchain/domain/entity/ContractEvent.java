@@ -0,0 +1,74 @@
+package com.rabbit.blockchain.domain.entity;
+
+import com.rabbit.blockchain.domain.enums.ContractEventType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigInteger;
+import java.time.ZonedDateTime;
+
+/**
+ * 인덱싱된 컨트랙트 이벤트 엔티티
+ * - 트랜잭션 해시 + 로그 인덱스로 로그 하나를 식별 (중복 저장 방지)
+ */
+@Entity
+@Table(
+        name = "contract_event",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_contract_event_tx_log", columnNames = {"transaction_hash", "log_index"})
+        },
+        indexes = {
+                @Index(name = "idx_contract_event_token_block", columnList = "token_id, block_number")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ContractEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long contractEventId;
+
+    /**
+     * 원본 차용증 토큰 ID
+     */
+    @Column(name = "token_id", nullable = false)
+    private BigInteger tokenId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 50)
+    private ContractEventType eventType;
+
+    /**
+     * 이벤트 금액 (금액이 없는 이벤트는 null)
+     */
+    private Long amount;
+
+    @Column(name = "from_address", length = 42)
+    private String fromAddress;
+
+    @Column(name = "to_address", length = 42)
+    private String toAddress;
+
+    @Column(name = "block_number", nullable = false)
+    private Long blockNumber;
+
+    @Column(name = "block_timestamp")
+    private ZonedDateTime blockTimestamp;
+
+    @Column(name = "transaction_hash", nullable = false, length = 66)
+    private String transactionHash;
+
+    @Column(name = "log_index", nullable = false)
+    private Integer logIndex;
+
+    @Column(nullable = false)
+    private ZonedDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = ZonedDateTime.now();
+    }
+}
@@ -0,0 +1,42 @@
+package com.rabbit.blockchain.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 이벤트 인덱서 체크포인트 엔티티
+ * - 인덱서별로 마지막까지 저장한 블록 번호를 기록
+ */
+@Entity
+@Table(name = "event_index_checkpoint")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class EventIndexCheckpoint {
+
+    @Id
+    @Column(length = 50)
+    private String indexerName;
+
+    /**
+     * 마지막으로 저장 완료한 블록 번호
+     */
+    @Column(nullable = false)
+    private Long lastBlock;
+
+    @Column(nullable = false)
+    private ZonedDateTime updatedAt;
+
+    /**
+     * 체크포인트 갱신
+     *
+     * @param lastBlock 저장 완료한 블록 번호
+     */
+    public void advance(Long lastBlock) {
+        this.lastBlock = lastBlock;
+        this.updatedAt = ZonedDateTime.now();
+    }
+}
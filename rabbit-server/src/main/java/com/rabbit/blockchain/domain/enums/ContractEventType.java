@@ -0,0 +1,21 @@
+package com.rabbit.blockchain.domain.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 인덱싱 대상 컨트랙트 이벤트 유형
+ */
+@Getter
+@AllArgsConstructor
+public enum ContractEventType {
+
+    REPAYMENT("상환"),                 // RepaymentScheduler.RepaymentProcessed
+    EARLY_REPAYMENT("중도 상환"),       // RepaymentScheduler.EarlyRepaymentPrincipal
+    ASSIGNMENT("양도"),                // PromissoryNote.AppendixNFTMinted
+    OVERDUE("연체"),                   // RepaymentScheduler.RepaymentOverdue
+    OVERDUE_RESOLVED("연체 상환");      // RepaymentScheduler.OverdueResolved
+
+    // 화면에 표시하는 이벤트명
+    private final String label;
+}
@@ -0,0 +1,181 @@
+package com.rabbit.blockchain.gateway;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.reactivex.Flowable;
+import lombok.extern.slf4j.Slf4j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.websocket.events.Notification;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 블록체인 노드 JSON-RPC 게이트웨이
+ * - 모든 RPC 호출이 이 서비스를 거치도록 Web3j 에 연결
+ * - RPC 메서드별 응답 시간(blockchain.rpc.requests)과 오류 수(blockchain.rpc.errors)를 기록
+ * - 동시 요청 수를 제한해서 노드가 느려져도 요청 스레드가 모두 묶이지 않도록 함
+ */
+@Slf4j
+public class ChainGateway implements Web3jService {
+
+    private static final String BATCH_METHOD = "batch";
+
+    private final Web3jService delegate;
+    private final MeterRegistry meterRegistry;
+
+    // 동시 RPC 요청 제한
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+
+    public ChainGateway(Web3jService delegate, MeterRegistry meterRegistry, int maxConcurrency, long acquireTimeoutMs) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+
+        Gauge.builder("blockchain.rpc.in-flight", permits, p -> maxConcurrency - p.availablePermits())
+                .description("처리 중인 RPC 요청 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        String method = request.getMethod();
+        acquire(method);
+
+        long start = System.nanoTime();
+        try {
+            T response = delegate.send(request, responseType);
+            record(method, start, response.hasError() ? "rpc_error" : "success");
+            return response;
+        } catch (IOException e) {
+            record(method, start, errorType(e));
+            throw e;
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+        String method = request.getMethod();
+        try {
+            acquire(method);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        long start = System.nanoTime();
+        return delegate.sendAsync(request, responseType)
+                .whenComplete((response, error) -> {
+                    permits.release();
+                    if (error != null) {
+                        record(method, start, errorType(error));
+                    } else {
+                        record(method, start, response.hasError() ? "rpc_error" : "success");
+                    }
+                });
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        acquire(BATCH_METHOD);
+
+        long start = System.nanoTime();
+        try {
+            BatchResponse response = delegate.sendBatch(batchRequest);
+            record(BATCH_METHOD, start, "success");
+            return response;
+        } catch (IOException e) {
+            record(BATCH_METHOD, start, errorType(e));
+            throw e;
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        try {
+            acquire(BATCH_METHOD);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        long start = System.nanoTime();
+        return delegate.sendBatchAsync(batchRequest)
+                .whenComplete((response, error) -> {
+                    permits.release();
+                    record(BATCH_METHOD, start, error != null ? errorType(error) : "success");
+                });
+    }
+
+    @Override
+    public <T extends Notification<?>> Flowable<T> subscribe(Request request, String unsubscribeMethod, Class<T> responseType) {
+        return delegate.subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    // 허용 시간 안에 요청 슬롯을 얻지 못하면 노드 지연으로 보고 즉시 실패
+    private void acquire(String method) throws IOException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                countError(method, "rejected");
+                log.warn("[ChainGateway] RPC 동시 요청 한도 초과 - method: {}", method);
+                throw new IOException("RPC 동시 요청 한도 초과: " + method);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("RPC 요청 대기 중 인터럽트: " + method);
+        }
+    }
+
+    private void record(String method, long startNanos, String outcome) {
+        Timer.builder("blockchain.rpc.requests")
+                .description("RPC 메서드별 응답 시간")
+                .tag("method", method)
+                .tag("outcome", "success".equals(outcome) ? "success" : "error")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+
+        if (!"success".equals(outcome)) {
+            countError(method, outcome);
+        }
+    }
+
+    private void countError(String method, String type) {
+        Counter.builder("blockchain.rpc.errors")
+                .description("RPC 메서드별 오류 수")
+                .tag("method", method)
+                .tag("type", type)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private String errorType(Throwable error) {
+        Throwable cause = error.getCause() != null && !(error instanceof IOException) ? error.getCause() : error;
+        if (cause instanceof SocketTimeoutException) {
+            return "timeout";
+        }
+        if (cause instanceof IOException) {
+            return "io";
+        }
+        return "unknown";
+    }
+}
@@ -0,0 +1,89 @@
+package com.rabbit.blockchain.gateway;
+
+import lombok.Getter;
+import org.web3j.protocol.Web3jService;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RPC 엔드포인트 상태
+ * - 최근 응답 시간(EWMA, p95)과 연속 실패 횟수로 라우팅 가중치와 헬스 여부를 판단
+ */
+public class RpcEndpoint {
+
+    // 응답 시간 표본 수 (p95 계산용)
+    private static final int SAMPLE_SIZE = 128;
+
+    // EWMA 가중치
+    private static final double ALPHA = 0.2;
+
+    @Getter
+    private final String name;
+
+    @Getter
+    private final Web3jService service;
+
+    private final long[] samples = new long[SAMPLE_SIZE];
+    private int sampleCount;
+    private int sampleCursor;
+
+    private volatile double ewmaLatencyMs;
+    // 동시에 실패한 요청끼리 증가분을 잃지 않도록 원자적으로 갱신
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    @Getter
+    private volatile BigInteger latestBlock;
+
+    @Getter
+    private volatile boolean lagging;
+
+    public RpcEndpoint(String name, Web3jService service) {
+        this.name = name;
+        this.service = service;
+    }
+
+    public synchronized void recordSuccess(long latencyMs) {
+        samples[sampleCursor] = latencyMs;
+        sampleCursor = (sampleCursor + 1) % SAMPLE_SIZE;
+        sampleCount = Math.min(sampleCount + 1, SAMPLE_SIZE);
+
+        ewmaLatencyMs = ewmaLatencyMs == 0 ? latencyMs : ALPHA * latencyMs + (1 - ALPHA) * ewmaLatencyMs;
+        consecutiveFailures.set(0);
+    }
+
+    public void recordFailure() {
+        consecutiveFailures.incrementAndGet();
+    }
+
+    public void updateLatestBlock(BigInteger latestBlock, boolean lagging) {
+        this.latestBlock = latestBlock;
+        this.lagging = lagging;
+    }
+
+    /**
+     * 읽기 요청을 보낼 수 있는 상태인지
+     *
+     * @param maxFailures 허용하는 연속 실패 횟수
+     */
+    public boolean isHealthy(int maxFailures) {
+        return consecutiveFailures.get() < maxFailures && !lagging;
+    }
+
+    public double getEwmaLatencyMs() {
+        return ewmaLatencyMs;
+    }
+
+    /**
+     * 최근 응답 시간의 p95 (표본이 없으면 defaultMs)
+     */
+    public synchronized long p95LatencyMs(long defaultMs) {
+        if (sampleCount == 0) {
+            return defaultMs;
+        }
+        long[] sorted = Arrays.copyOf(samples, sampleCount);
+        Arrays.sort(sorted);
+        return sorted[(int) Math.ceil(sampleCount * 0.95) - 1];
+    }
+}
@@ -0,0 +1,353 @@
+package com.rabbit.blockchain.gateway;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.reactivex.Flowable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.websocket.events.Notification;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 다중 RPC 엔드포인트 라우터
+ * - 쓰기 및 상태 의존 요청(트랜잭션 전송, nonce, 영수증 조회 등)은 항상 기본(primary) 엔드포인트로 전송
+ * - 블록 번호/로그 조회(eth_blockNumber, eth_getLogs)도 primary 로 보내서 최신 블록을 읽은 노드와 로그를 조회하는 노드가 같도록 함
+ *   (뒤처진 노드에서 로그를 조회하면 빈 결과를 받고 그 구간을 처리한 것으로 넘어가게 됨)
+ * - readFromPrimary 안의 요청은 읽기라도 primary 로 전송 (쓰기 직후 결과 확인용)
+ * - 읽기 요청은 정상 엔드포인트 중 응답 시간 가중치로 선택
+ * - 헤지 대상 읽기 요청은 첫 엔드포인트가 p95 안에 응답하지 않으면 두 번째 엔드포인트에도 전송하고 먼저 온 응답 사용
+ * - 주기적으로 eth_blockNumber 를 호출해서 응답 시간과 블록 지연을 확인
+ */
+@Slf4j
+public class RpcEndpointRouter implements Web3jService {
+
+    // 엔드포인트를 골라서 보낼 수 있는 읽기 전용 메서드
+    private static final Set<String> READ_METHODS = Set.of(
+            "eth_call", "eth_getBlockByNumber", "eth_getBalance", "eth_chainId"
+    );
+
+    // 헤지 대상 메서드
+    private static final Set<String> HEDGE_METHODS = Set.of(
+            "eth_call", "eth_getBlockByNumber"
+    );
+
+    // readFromPrimary 실행 중인 스레드
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = ThreadLocal.withInitial(() -> false);
+
+    // 연속 실패 허용 횟수 (넘으면 헬스 체크가 성공할 때까지 읽기 대상에서 제외)
+    private static final int MAX_FAILURES = 3;
+
+    private final List<RpcEndpoint> endpoints;
+    private final RpcEndpoint primary;
+
+    private final boolean hedgeEnabled;
+    private final long hedgeMinDelayMs;
+    private final long maxBlockLag;
+
+    public RpcEndpointRouter(List<RpcEndpoint> endpoints, MeterRegistry meterRegistry,
+                             boolean hedgeEnabled, long hedgeMinDelayMs, long maxBlockLag) {
+        this.endpoints = List.copyOf(endpoints);
+        this.primary = endpoints.get(0);
+        this.hedgeEnabled = hedgeEnabled;
+        this.hedgeMinDelayMs = hedgeMinDelayMs;
+        this.maxBlockLag = maxBlockLag;
+
+        for (RpcEndpoint endpoint : this.endpoints) {
+            Gauge.builder("blockchain.rpc.endpoint.latency", endpoint, RpcEndpoint::getEwmaLatencyMs)
+                    .description("엔드포인트 응답 시간 (EWMA, ms)")
+                    .tag("endpoint", endpoint.getName())
+                    .register(meterRegistry);
+            Gauge.builder("blockchain.rpc.endpoint.healthy", endpoint, e -> e.isHealthy(MAX_FAILURES) ? 1 : 0)
+                    .description("엔드포인트 읽기 가능 여부")
+                    .tag("endpoint", endpoint.getName())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * action 안의 읽기 요청을 모두 primary 로 전송
+     * - primary 로 보낸 트랜잭션 결과를 바로 읽어야 할 때 사용 (다른 노드는 아직 그 블록을 받지 못했을 수 있음)
+     */
+    public static <T> T readFromPrimary(Supplier<T> action) {
+        if (PRIMARY_ONLY.get()) {
+            return action.get();
+        }
+        PRIMARY_ONLY.set(true);
+        try {
+            return action.get();
+        } finally {
+            PRIMARY_ONLY.remove();
+        }
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        String method = request.getMethod();
+
+        if (!isBalanced(method)) {
+            return sendTo(primary, request, responseType);
+        }
+
+        List<RpcEndpoint> candidates = rankReadEndpoints();
+        if (hedgeEnabled && HEDGE_METHODS.contains(method) && candidates.size() > 1) {
+            return sendHedged(candidates.get(0), candidates.get(1), request, responseType);
+        }
+        return sendTo(candidates.get(0), request, responseType);
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(Request request, Class<T> responseType) {
+        RpcEndpoint endpoint = isBalanced(request.getMethod()) ? rankReadEndpoints().get(0) : primary;
+
+        long start = System.nanoTime();
+        return endpoint.getService().sendAsync(request, responseType)
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        endpoint.recordFailure();
+                    } else {
+                        endpoint.recordSuccess(elapsedMs(start));
+                    }
+                });
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return sendBatchTo(batchEndpoint(batchRequest), batchRequest);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        RpcEndpoint endpoint = batchEndpoint(batchRequest);
+
+        long start = System.nanoTime();
+        return endpoint.getService().sendBatchAsync(batchRequest)
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        endpoint.recordFailure();
+                    } else {
+                        endpoint.recordSuccess(elapsedMs(start));
+                    }
+                });
+    }
+
+    @Override
+    public <T extends Notification<?>> Flowable<T> subscribe(Request request, String unsubscribeMethod, Class<T> responseType) {
+        return primary.getService().subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (RpcEndpoint endpoint : endpoints) {
+            endpoint.getService().close();
+        }
+    }
+
+    /**
+     * 엔드포인트 헬스 체크
+     * - 응답 시간을 갱신하고, 가장 높은 블록보다 max-block-lag 이상 뒤처진 엔드포인트는 읽기 대상에서 제외
+     */
+    @Scheduled(fixedDelayString = "${blockchain.rpc.health-check-interval-ms:10000}")
+    public void probe() {
+        if (endpoints.size() == 1) {
+            return;
+        }
+
+        for (RpcEndpoint endpoint : endpoints) {
+            try {
+                Request<?, EthBlockNumber> request = new Request<>(
+                        "eth_blockNumber", Collections.emptyList(), endpoint.getService(), EthBlockNumber.class);
+                EthBlockNumber response = sendTo(endpoint, request, EthBlockNumber.class);
+                if (!response.hasError()) {
+                    endpoint.updateLatestBlock(response.getBlockNumber(), false);
+                }
+            } catch (Exception e) {
+                log.warn("[RpcRouter] 헬스 체크 실패 - endpoint: {}, error: {}", endpoint.getName(), e.getMessage());
+            }
+        }
+
+        BigInteger highestBlock = endpoints.stream()
+                .map(RpcEndpoint::getLatestBlock)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        if (highestBlock == null) {
+            return;
+        }
+
+        for (RpcEndpoint endpoint : endpoints) {
+            BigInteger latestBlock = endpoint.getLatestBlock();
+            boolean lagging = latestBlock != null
+                    && highestBlock.subtract(latestBlock).longValue() > maxBlockLag;
+            if (lagging && !endpoint.isLagging()) {
+                log.warn("[RpcRouter] 블록 지연으로 읽기 대상에서 제외 - endpoint: {}, 블록: {}, 최신: {}",
+                        endpoint.getName(), latestBlock, highestBlock);
+            }
+            endpoint.updateLatestBlock(latestBlock, lagging);
+        }
+    }
+
+    // 정상 엔드포인트를 응답 시간 가중치로 정렬 (첫 번째는 가중치 무작위 선택, 나머지는 빠른 순)
+    private List<RpcEndpoint> rankReadEndpoints() {
+        List<RpcEndpoint> healthy = endpoints.stream()
+                .filter(endpoint -> endpoint.isHealthy(MAX_FAILURES))
+                .sorted(Comparator.comparingDouble(RpcEndpoint::getEwmaLatencyMs))
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        if (healthy.isEmpty()) {
+            return List.of(primary);
+        }
+        if (healthy.size() == 1) {
+            return healthy;
+        }
+
+        // 응답 시간의 역수를 가중치로 사용 (아직 측정되지 않은 엔드포인트는 1ms 로 간주해서 우선 탐색)
+        double[] weights = new double[healthy.size()];
+        double total = 0;
+        for (int i = 0; i < healthy.size(); i++) {
+            weights[i] = 1.0 / Math.max(healthy.get(i).getEwmaLatencyMs(), 1.0);
+            total += weights[i];
+        }
+
+        double pick = ThreadLocalRandom.current().nextDouble(total);
+        int chosen = 0;
+        for (int i = 0; i < weights.length; i++) {
+            pick -= weights[i];
+            if (pick < 0) {
+                chosen = i;
+                break;
+            }
+        }
+
+        RpcEndpoint first = healthy.remove(chosen);
+        healthy.add(0, first);
+        return healthy;
+    }
+
+    // 읽기 메서드이고 primary 고정 구간이 아닐 때만 엔드포인트를 고름
+    private boolean isBalanced(String method) {
+        return endpoints.size() > 1 && READ_METHODS.contains(method) && !PRIMARY_ONLY.get();
+    }
+
+    // 배치는 모두 읽기 메서드일 때만 엔드포인트를 고름
+    private RpcEndpoint batchEndpoint(BatchRequest batchRequest) {
+        boolean readOnly = batchRequest.getRequests().stream()
+                .allMatch(request -> isBalanced(request.getMethod()));
+        return readOnly ? rankReadEndpoints().get(0) : primary;
+    }
+
+    private <T extends Response> T sendTo(RpcEndpoint endpoint, Request request, Class<T> responseType) throws IOException {
+        long start = System.nanoTime();
+        try {
+            T response = endpoint.getService().send(request, responseType);
+            endpoint.recordSuccess(elapsedMs(start));
+            return response;
+        } catch (IOException e) {
+            endpoint.recordFailure();
+            throw e;
+        }
+    }
+
+    private BatchResponse sendBatchTo(RpcEndpoint endpoint, BatchRequest batchRequest) throws IOException {
+        long start = System.nanoTime();
+        try {
+            BatchResponse response = endpoint.getService().sendBatch(batchRequest);
+            endpoint.recordSuccess(elapsedMs(start));
+            return response;
+        } catch (IOException e) {
+            endpoint.recordFailure();
+            throw e;
+        }
+    }
+
+    /**
+     * 헤지 요청
+     * - first 에 먼저 보내고 p95 안에 응답이 없으면 second 에도 보내서 먼저 성공한 응답을 사용
+     */
+    private <T extends Response> T sendHedged(RpcEndpoint first, RpcEndpoint second,
+                                              Request request, Class<T> responseType) throws IOException {
+        long hedgeDelayMs = Math.max(first.p95LatencyMs(hedgeMinDelayMs), hedgeMinDelayMs);
+
+        CompletableFuture<T> firstFuture = sendAsyncTo(first, request, responseType);
+        try {
+            return firstFuture.get(hedgeDelayMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.debug("[RpcRouter] 헤지 요청 전송 - method: {}, {} → {}", request.getMethod(), first.getName(), second.getName());
+        } catch (ExecutionException e) {
+            // 첫 엔드포인트가 바로 실패하면 두 번째 엔드포인트로 재시도
+            return sendTo(second, request, responseType);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("RPC 응답 대기 중 인터럽트");
+        }
+
+        CompletableFuture<T> secondFuture = sendAsyncTo(second, request, responseType);
+        try {
+            return firstSuccessful(firstFuture, secondFuture).get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof IOException io ? io : new IOException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("RPC 응답 대기 중 인터럽트");
+        }
+    }
+
+    private <T extends Response> CompletableFuture<T> sendAsyncTo(RpcEndpoint endpoint, Request request, Class<T> responseType) {
+        long start = System.nanoTime();
+        return endpoint.getService().sendAsync(request, responseType)
+                .whenComplete((response, error) -> {
+                    if (error != null) {
+                        endpoint.recordFailure();
+                    } else {
+                        endpoint.recordSuccess(elapsedMs(start));
+                    }
+                });
+    }
+
+    // 둘 중 먼저 성공한 응답, 둘 다 실패하면 마지막 오류
+    private <T> CompletableFuture<T> firstSuccessful(CompletableFuture<T> a, CompletableFuture<T> b) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        FirstSuccess<T> handler = new FirstSuccess<>(result, 2);
+        a.whenComplete(handler::accept);
+        b.whenComplete(handler::accept);
+        return result;
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    // 성공한 첫 응답으로 결과를 완료하고, 모두 실패했을 때만 오류로 완료
+    private static class FirstSuccess<T> {
+        private final CompletableFuture<T> result;
+        private int remaining;
+
+        FirstSuccess(CompletableFuture<T> result, int remaining) {
+            this.result = result;
+            this.remaining = remaining;
+        }
+
+        synchronized void accept(T value, Throwable error) {
+            remaining--;
+            if (error == null) {
+                result.complete(value);
+            } else if (remaining == 0) {
+                result.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+            }
+        }
+    }
+}
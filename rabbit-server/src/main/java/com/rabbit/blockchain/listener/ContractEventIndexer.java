@@ -0,0 +1,154 @@
+package com.rabbit.blockchain.listener;
+
+import com.rabbit.blockchain.cache.RepaymentInfoSnapshotCache;
+import com.rabbit.blockchain.domain.dto.ContractStateChange;
+import com.rabbit.blockchain.domain.entity.ContractEvent;
+import com.rabbit.blockchain.domain.enums.ContractEventType;
+import com.rabbit.blockchain.mapper.ContractEventMapper;
+import com.rabbit.blockchain.service.BlockchainBatchService;
+import com.rabbit.blockchain.service.ContractEventIndexService;
+import com.rabbit.blockchain.wrapper.PromissoryNote;
+import com.rabbit.blockchain.wrapper.RepaymentScheduler;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.Log;
+
+import java.math.BigInteger;
+import java.time.ZonedDateTime;
+import java.util.*;
+
+/**
+ * 컨트랙트 이벤트 인덱서
+ * - 체크포인트 이후 블록의 차용증/상환 이벤트 로그를 한 번만 디코딩해서 contract_event 테이블에 저장
+ * - 이벤트 내역 조회(EventService.getEventList)는 노드 대신 이 테이블을 조회
+ * - 저장한 이벤트는 다시 확인하지 않으므로 재구성(reorg)될 수 있는 최근 블록은 확정 깊이만큼 뒤처져서 인덱싱
+ * - 캐시 무효화가 필요한 상태 변경도 같은 로그에서 뽑아 저장과 함께 넘김 (ContractEventWatcher 가 모든 서버에 전파)
+ *   → 서버마다 노드 폴링은 이 인덱서 한 곳에서만 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContractEventIndexer {
+
+    public static final String INDEXER_NAME = "contract-event";
+
+    // 체크포인트가 없고 시작 블록도 지정되지 않았을 때 최신 블록에서 거슬러 올라갈 블록 수
+    private static final long DEFAULT_LOOKBACK_BLOCKS = 10_000L;
+
+    private final Web3j web3j;
+    private final PromissoryNote promissoryNote;
+    private final RepaymentScheduler repaymentScheduler;
+    private final ContractEventIndexService contractEventIndexService;
+    private final BlockchainBatchService blockchainBatchService;
+    private final RepaymentInfoSnapshotCache repaymentInfoSnapshotCache;
+
+    // 인덱싱 시작 블록 (컨트랙트 배포 블록, 음수면 최근 블록부터)
+    @Value("${blockchain.event-index.start-block:-1}")
+    private long startBlock;
+
+    // 한 번의 폴링에서 조회할 최대 블록 수
+    @Value("${blockchain.event-index.max-block-range:2000}")
+    private long maxBlockRange;
+
+    // 확정으로 보는 블록 깊이 (최신 블록에서 이만큼 이전 블록까지만 인덱싱)
+    @Value("${blockchain.event-index.confirmations:12}")
+    private long confirmations;
+
+    @Scheduled(fixedDelayString = "${blockchain.event-index.interval-ms:5000}")
+    public void index() {
+        try {
+            BigInteger latestBlock = web3j.ethBlockNumber().send().getBlockNumber();
+            repaymentInfoSnapshotCache.updateLatestBlock(latestBlock);
+            long confirmedBlock = latestBlock.longValue() - confirmations;
+
+            long lastIndexedBlock = contractEventIndexService.getLastIndexedBlock(INDEXER_NAME)
+                    .orElseGet(() -> initialCheckpoint(confirmedBlock));
+
+            if (confirmedBlock <= lastIndexedBlock) {
+                return;
+            }
+
+            long fromBlock = lastIndexedBlock + 1;
+            long toBlock = Math.min(confirmedBlock, lastIndexedBlock + maxBlockRange);
+
+            List<Log> logs = new ArrayList<>();
+            logs.addAll(getLogs(promissoryNote.getContractAddress(), fromBlock, toBlock,
+                    ContractEventMapper.PROMISSORY_NOTE_TOPICS));
+            logs.addAll(getLogs(repaymentScheduler.getContractAddress(), fromBlock, toBlock,
+                    ContractEventMapper.REPAYMENT_STATE_TOPICS));
+
+            Set<BigInteger> blockNumbers = new HashSet<>();
+            logs.forEach(eventLog -> blockNumbers.add(eventLog.getBlockNumber()));
+
+            // 블록 시각을 하나라도 못 가져오면 다음 주기에 같은 구간을 다시 처리
+            Map<BigInteger, ZonedDateTime> blockTimestamps = blockchainBatchService.getBlockTimestamps(blockNumbers);
+            if (blockTimestamps.size() < blockNumbers.size()) {
+                throw new IllegalStateException("블록 시간 조회 실패 - 구간: " + fromBlock + "~" + toBlock);
+            }
+
+            List<ContractEvent> events = new ArrayList<>(logs.size());
+            Set<BigInteger> transferredTokenIds = new LinkedHashSet<>();
+            List<ContractStateChange.RepaymentChange> repaymentChanges = new ArrayList<>();
+            for (Log eventLog : logs) {
+                // 노드가 재구성으로 취소된 로그를 돌려준 경우 저장하지 않음
+                if (eventLog.isRemoved()) {
+                    continue;
+                }
+                ContractEvent event = ContractEventMapper.fromLog(eventLog, blockTimestamps.get(eventLog.getBlockNumber()));
+                if (event != null) {
+                    events.add(event);
+                    if (event.getEventType() == ContractEventType.ASSIGNMENT) {
+                        transferredTokenIds.add(event.getTokenId());
+                    }
+                }
+
+                BigInteger repaymentTokenId = ContractEventMapper.repaymentTokenId(eventLog);
+                if (repaymentTokenId != null) {
+                    repaymentChanges.add(new ContractStateChange.RepaymentChange(repaymentTokenId, eventLog.getBlockNumber()));
+                }
+            }
+
+            contractEventIndexService.saveRange(INDEXER_NAME, fromBlock, toBlock, events,
+                    new ContractStateChange(transferredTokenIds, repaymentChanges));
+        } catch (Exception e) {
+            log.warn("[EventIndexer] 이벤트 인덱싱 실패 - 다음 주기에 재시도: {}", e.getMessage());
+        }
+    }
+
+    // 체크포인트가 없을 때 시작 위치 결정 (시작 블록 바로 이전 블록)
+    private long initialCheckpoint(long confirmedBlock) {
+        long initial = startBlock >= 0
+                ? startBlock - 1
+                : Math.max(confirmedBlock - DEFAULT_LOOKBACK_BLOCKS, 0L) - 1;
+        log.info("[EventIndexer] 체크포인트 없음 - {}번 블록부터 인덱싱 시작", initial + 1);
+        return initial;
+    }
+
+    // 컨트랙트 주소 하나에 대해 여러 이벤트 시그니처를 OR 조건으로 조회
+    private List<Log> getLogs(String contractAddress, long fromBlock, long toBlock, List<String> eventTopics) throws Exception {
+        EthFilter filter = new EthFilter(
+                DefaultBlockParameter.valueOf(BigInteger.valueOf(fromBlock)),
+                DefaultBlockParameter.valueOf(BigInteger.valueOf(toBlock)),
+                contractAddress
+        );
+        filter.addOptionalTopics(eventTopics.toArray(new String[0]));
+
+        EthLog ethLog = web3j.ethGetLogs(filter).send();
+        if (ethLog.hasError()) {
+            throw new IllegalStateException(ethLog.getError().getMessage());
+        }
+
+        List<Log> logs = new ArrayList<>();
+        for (EthLog.LogResult<?> result : ethLog.getLogs()) {
+            logs.add((Log) result.get());
+        }
+        return logs;
+    }
+}
@@ -0,0 +1,84 @@
+package com.rabbit.blockchain.listener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rabbit.auction.cache.AuctionDetailCache;
+import com.rabbit.auction.service.AuctionListingService;
+import com.rabbit.blockchain.cache.RepaymentInfoSnapshotCache;
+import com.rabbit.blockchain.domain.dto.ContractStateChange;
+import com.rabbit.blockchain.service.PromissoryNoteService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigInteger;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 컨트랙트 이벤트 캐시 무효화
+ * - 노드를 직접 폴링하지 않고, 인덱서가 블록 구간을 저장하면(커밋 후) 그 구간의 상태 변경을 받아서 처리
+ * - 구간을 저장한 서버가 Redis 채널로 모든 서버에 알리고, 각 서버는 수신한 변경으로 로컬 캐시를 무효화
+ * - 경매 목록(auction_listing) 재동기화는 공유 DB 라서 구간을 저장한 서버에서 한 번만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ContractEventWatcher {
+
+    // 서버 간 무효화 채널 (메시지 본문은 ContractStateChange JSON)
+    public static final String INVALIDATION_CHANNEL = "contract-state-invalidation";
+
+    private final PromissoryNoteService promissoryNoteService;
+    private final RepaymentInfoSnapshotCache repaymentInfoSnapshotCache;
+    private final AuctionListingService auctionListingService;
+    private final AuctionDetailCache auctionDetailCache;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 인덱서가 저장한 구간의 상태 변경 처리 (구간을 저장한 서버에서만 호출됨)
+     * - 이 서버 캐시를 먼저 무효화해야 목록 재동기화가 이전 상환 정보 스냅샷을 읽지 않음
+     * - 경매 목록 상환 정보 재동기화 후 모든 서버에 캐시 무효화 전파
+     */
+    @TransactionalEventListener
+    public void onIndexed(ContractStateChange change) {
+        evictLocal(change);
+
+        Set<BigInteger> changedTokenIds = new LinkedHashSet<>();
+        change.repaymentChanges().forEach(repaymentChange -> changedTokenIds.add(repaymentChange.tokenId()));
+        for (BigInteger tokenId : changedTokenIds) {
+            try {
+                auctionListingService.refreshByTokenId(tokenId);
+            } catch (Exception e) {
+                // 목록 재조정 주기에 다시 동기화됨
+                log.warn("[EventWatcher] 경매 목록 상환 정보 재동기화 실패 - 토큰 ID: {}, 오류: {}", tokenId, e.getMessage());
+            }
+        }
+
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, objectMapper.writeValueAsString(change));
+        } catch (Exception e) {
+            // 다른 서버는 캐시 만료 시간이 지나면 갱신됨
+            log.warn("[EventWatcher] 캐시 무효화 전파 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 이 서버의 캐시 무효화 (무효화 채널 수신 시)
+     * - 양도(AppendixNFTMinted) → 원본 차용증 메타데이터 캐시 무효화
+     * - 상환/연체 이벤트 → 상환 정보 스냅샷/경매 상세 캐시 무효화
+     */
+    public void evictLocal(ContractStateChange change) {
+        change.transferredTokenIds().forEach(promissoryNoteService::evictPromissoryMetadata);
+
+        Set<BigInteger> changedTokenIds = new LinkedHashSet<>();
+        for (ContractStateChange.RepaymentChange repaymentChange : change.repaymentChanges()) {
+            repaymentInfoSnapshotCache.invalidate(repaymentChange.tokenId(), repaymentChange.blockNumber());
+            changedTokenIds.add(repaymentChange.tokenId());
+        }
+
+        changedTokenIds.forEach(auctionDetailCache::evictLocalByTokenId);
+    }
+}
@@ -0,0 +1,163 @@
+package com.rabbit.blockchain.mapper;
+
+import com.rabbit.blockchain.domain.entity.ContractEvent;
+import com.rabbit.blockchain.domain.enums.ContractEventType;
+import com.rabbit.blockchain.wrapper.PromissoryNote;
+import com.rabbit.blockchain.wrapper.RepaymentScheduler;
+import com.rabbit.loan.domain.dto.response.ContractEventDTO;
+import org.web3j.abi.EventEncoder;
+import org.web3j.protocol.core.methods.response.Log;
+
+import java.math.BigInteger;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * 컨트랙트 이벤트 로그 디코딩 / 변환
+ * - 이벤트 시그니처(topic0)로 이벤트 종류를 판별
+ */
+public class ContractEventMapper {
+
+    public static final String APPENDIX_NFT_MINTED_TOPIC = EventEncoder.encode(PromissoryNote.APPENDIXNFTMINTED_EVENT);
+    public static final String REPAYMENT_PROCESSED_TOPIC = EventEncoder.encode(RepaymentScheduler.REPAYMENTPROCESSED_EVENT);
+    public static final String EARLY_REPAYMENT_PRINCIPAL_TOPIC = EventEncoder.encode(RepaymentScheduler.EARLYREPAYMENTPRINCIPAL_EVENT);
+    public static final String REPAYMENT_OVERDUE_TOPIC = EventEncoder.encode(RepaymentScheduler.REPAYMENTOVERDUE_EVENT);
+    public static final String OVERDUE_RESOLVED_TOPIC = EventEncoder.encode(RepaymentScheduler.OVERDUERESOLVED_EVENT);
+    public static final String OVERDUE_INTEREST_ACCUMULATED_TOPIC = EventEncoder.encode(RepaymentScheduler.OVERDUEINTERESTACCUMULATED_EVENT);
+    public static final String REPAYMENT_COMPLETED_TOPIC = EventEncoder.encode(RepaymentScheduler.REPAYMENTCOMPLETED_EVENT);
+
+    // PromissoryNote 컨트랙트에서 조회할 이벤트 시그니처
+    public static final List<String> PROMISSORY_NOTE_TOPICS = List.of(APPENDIX_NFT_MINTED_TOPIC);
+
+    // RepaymentScheduler 컨트랙트에서 조회할 이벤트 시그니처
+    public static final List<String> REPAYMENT_SCHEDULER_TOPICS = List.of(
+            REPAYMENT_PROCESSED_TOPIC,
+            EARLY_REPAYMENT_PRINCIPAL_TOPIC,
+            REPAYMENT_OVERDUE_TOPIC,
+            OVERDUE_RESOLVED_TOPIC
+    );
+
+    // RepaymentScheduler 이벤트 중 tokenId 가 첫 번째 인덱스 토픽(topic1)인 이벤트 (노드에서 토큰 ID로 거를 수 있음)
+    public static final List<String> REPAYMENT_SCHEDULER_TOKEN_INDEXED_TOPICS = List.of(
+            EARLY_REPAYMENT_PRINCIPAL_TOPIC,
+            REPAYMENT_OVERDUE_TOPIC,
+            OVERDUE_RESOLVED_TOPIC
+    );
+
+    // RepaymentScheduler 이벤트 중 상환 정보를 바꾸는 이벤트 (캐시 무효화 대상, 내역에 저장하지 않는 이벤트 포함)
+    public static final List<String> REPAYMENT_STATE_TOPICS = List.of(
+            REPAYMENT_PROCESSED_TOPIC,
+            EARLY_REPAYMENT_PRINCIPAL_TOPIC,
+            REPAYMENT_OVERDUE_TOPIC,
+            OVERDUE_RESOLVED_TOPIC,
+            OVERDUE_INTEREST_ACCUMULATED_TOPIC,
+            REPAYMENT_COMPLETED_TOPIC
+    );
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    /**
+     * 로그를 이벤트 엔티티로 디코딩
+     *
+     * @param eventLog 이벤트 로그
+     * @param blockTimestamp 로그가 포함된 블록 생성 시각 (모르면 null)
+     * @return 이벤트 엔티티 (대상 이벤트가 아니면 null)
+     */
+    public static ContractEvent fromLog(Log eventLog, ZonedDateTime blockTimestamp) {
+        String topic0 = eventLog.getTopics().isEmpty() ? null : eventLog.getTopics().get(0);
+
+        ContractEvent.ContractEventBuilder builder = ContractEvent.builder()
+                .blockNumber(eventLog.getBlockNumber().longValue())
+                .blockTimestamp(blockTimestamp)
+                .transactionHash(eventLog.getTransactionHash())
+                .logIndex(eventLog.getLogIndex().intValue());
+
+        if (APPENDIX_NFT_MINTED_TOPIC.equals(topic0)) {
+            PromissoryNote.AppendixNFTMintedEventResponse e = PromissoryNote.getAppendixNFTMintedEventFromLog(eventLog);
+            return builder.tokenId(e.originalTokenId)
+                    .eventType(ContractEventType.ASSIGNMENT)
+                    .fromAddress(e.from)
+                    .toAddress(e.newOwner)
+                    .build();
+        }
+        if (REPAYMENT_PROCESSED_TOPIC.equals(topic0)) {
+            RepaymentScheduler.RepaymentProcessedEventResponse e = RepaymentScheduler.getRepaymentProcessedEventFromLog(eventLog);
+            return builder.tokenId(e.tokenId)
+                    .eventType(ContractEventType.REPAYMENT)
+                    .amount(e.amount.longValue())
+                    .fromAddress(e.from)
+                    .toAddress(e.to)
+                    .build();
+        }
+        if (EARLY_REPAYMENT_PRINCIPAL_TOPIC.equals(topic0)) {
+            RepaymentScheduler.EarlyRepaymentPrincipalEventResponse e = RepaymentScheduler.getEarlyRepaymentPrincipalEventFromLog(eventLog);
+            return builder.tokenId(e.tokenId)
+                    .eventType(ContractEventType.EARLY_REPAYMENT)
+                    .amount(e.principalAmount.longValue())
+                    .build();
+        }
+        if (REPAYMENT_OVERDUE_TOPIC.equals(topic0)) {
+            RepaymentScheduler.RepaymentOverdueEventResponse e = RepaymentScheduler.getRepaymentOverdueEventFromLog(eventLog);
+            return builder.tokenId(e.tokenId)
+                    .eventType(ContractEventType.OVERDUE)
+                    .build();
+        }
+        if (OVERDUE_RESOLVED_TOPIC.equals(topic0)) {
+            RepaymentScheduler.OverdueResolvedEventResponse e = RepaymentScheduler.getOverdueResolvedEventFromLog(eventLog);
+            return builder.tokenId(e.tokenId)
+                    .eventType(ContractEventType.OVERDUE_RESOLVED)
+                    .amount(e.paidOverdueAmount.longValue())
+                    .fromAddress(e.from)
+                    .toAddress(e.to)
+                    .build();
+        }
+        return null;
+    }
+
+    /**
+     * 상환 정보를 바꾸는 이벤트의 토큰 ID 추출
+     *
+     * @param eventLog 이벤트 로그
+     * @return 토큰 ID (대상 이벤트가 아니면 null)
+     */
+    public static BigInteger repaymentTokenId(Log eventLog) {
+        String topic0 = eventLog.getTopics().isEmpty() ? null : eventLog.getTopics().get(0);
+
+        if (REPAYMENT_PROCESSED_TOPIC.equals(topic0)) {
+            return RepaymentScheduler.getRepaymentProcessedEventFromLog(eventLog).tokenId;
+        }
+        if (EARLY_REPAYMENT_PRINCIPAL_TOPIC.equals(topic0)) {
+            return RepaymentScheduler.getEarlyRepaymentPrincipalEventFromLog(eventLog).tokenId;
+        }
+        if (REPAYMENT_OVERDUE_TOPIC.equals(topic0)) {
+            return RepaymentScheduler.getRepaymentOverdueEventFromLog(eventLog).tokenId;
+        }
+        if (OVERDUE_RESOLVED_TOPIC.equals(topic0)) {
+            return RepaymentScheduler.getOverdueResolvedEventFromLog(eventLog).tokenId;
+        }
+        if (OVERDUE_INTEREST_ACCUMULATED_TOPIC.equals(topic0)) {
+            return RepaymentScheduler.getOverdueInterestAccumulatedEventFromLog(eventLog).tokenId;
+        }
+        if (REPAYMENT_COMPLETED_TOPIC.equals(topic0)) {
+            return RepaymentScheduler.getRepaymentCompletedEventFromLog(eventLog).tokenId;
+        }
+        return null;
+    }
+
+    /**
+     * 이벤트 엔티티를 화면 응답으로 변환
+     * - timestamp 는 서울 시간 기준 yyyy-MM-ddTHH:mm:ss (블록 시각을 모르면 블록 번호)
+     */
+    public static ContractEventDTO toDTO(ContractEvent event) {
+        return ContractEventDTO.builder()
+                .eventType(event.getEventType().getLabel())
+                .from(event.getFromAddress())
+                .to(event.getToAddress())
+                .intAmt(event.getAmount())
+                .timestamp(event.getBlockTimestamp() != null
+                        ? event.getBlockTimestamp().withZoneSameInstant(SEOUL).toLocalDateTime().toString()
+                        : event.getBlockNumber().toString())
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package com.rabbit.blockchain.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rabbit.blockchain.domain.dto.ContractStateChange;
+import com.rabbit.blockchain.listener.ContractEventWatcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인덱서가 저장한 체인 상태 변경 수신 (보낸 서버 포함 모든 서버에서 로컬 캐시 무효화)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ContractStateInvalidationSubscriber implements MessageListener {
+
+    private final ContractEventWatcher contractEventWatcher;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            ContractStateChange change = objectMapper.readValue(message.getBody(), ContractStateChange.class);
+            contractEventWatcher.evictLocal(change);
+        } catch (Exception e) {
+            log.error("체인 상태 변경 캐시 무효화 메시지 처리 실패", e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.rabbit.blockchain.repository;
+
+import com.rabbit.blockchain.domain.entity.ContractEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * 인덱싱된 컨트랙트 이벤트 저장소
+ */
+@Repository
+public interface ContractEventRepository extends JpaRepository<ContractEvent, Long> {
+
+    /**
+     * 토큰의 전체 이벤트 내역 조회 (최신순)
+     *
+     * @param tokenId 원본 차용증 토큰 ID
+     * @return 이벤트 목록
+     */
+    List<ContractEvent> findByTokenIdOrderByBlockNumberDescLogIndexDesc(BigInteger tokenId);
+
+    /**
+     * 이미 저장된 로그인지 확인
+     *
+     * @param transactionHash 트랜잭션 해시
+     * @param logIndex 로그 인덱스
+     * @return 저장 여부
+     */
+    boolean existsByTransactionHashAndLogIndex(String transactionHash, Integer logIndex);
+}
@@ -0,0 +1,28 @@
+package com.rabbit.blockchain.repository;
+
+import com.rabbit.blockchain.domain.entity.EventIndexCheckpoint;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * 이벤트 인덱서 체크포인트 저장소
+ */
+@Repository
+public interface EventIndexCheckpointRepository extends JpaRepository<EventIndexCheckpoint, String> {
+
+    /**
+     * 체크포인트 조회 (쓰기 락) - 여러 서버가 같은 구간을 동시에 저장하지 않도록 직렬화
+     *
+     * @param indexerName 인덱서 이름
+     * @return 체크포인트
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM EventIndexCheckpoint c WHERE c.indexerName = :indexerName")
+    Optional<EventIndexCheckpoint> findByIdForUpdate(@Param("indexerName") String indexerName);
+}
@@ -0,0 +1,87 @@
+package com.rabbit.blockchain.service;
+
+import com.rabbit.blockchain.wrapper.PromissoryNote;
+import com.rabbit.blockchain.wrapper.RepaymentScheduler;
+import com.rabbit.global.config.AsyncConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 블록체인 조회의 비동기(CompletableFuture) 버전
+ * - 블록체인 전용 I/O 실행기에서 실행해서 요청 스레드가 RPC 응답을 기다리지 않도록 함
+ * - 기존 서비스 빈을 그대로 호출하므로 캐시(메타데이터/상환 정보 스냅샷)가 동일하게 적용됨
+ * - 호출마다 타임아웃을 적용하고, 초과 시 TimeoutException 으로 완료
+ */
+@Slf4j
+@Service
+public class BlockchainAsyncService {
+
+    private final PromissoryNoteService promissoryNoteService;
+    private final RepaymentSchedulerService repaymentSchedulerService;
+    private final RabbitCoinService rabbitCoinService;
+    private final Executor executor;
+
+    // 호출 1건당 기본 타임아웃
+    @Value("${blockchain.async.timeout-ms:5000}")
+    private long timeoutMs;
+
+    public BlockchainAsyncService(PromissoryNoteService promissoryNoteService,
+                                  RepaymentSchedulerService repaymentSchedulerService,
+                                  RabbitCoinService rabbitCoinService,
+                                  @Qualifier(AsyncConfig.BLOCKCHAIN_EXECUTOR) ThreadPoolTaskExecutor executor) {
+        this.promissoryNoteService = promissoryNoteService;
+        this.repaymentSchedulerService = repaymentSchedulerService;
+        this.rabbitCoinService = rabbitCoinService;
+        this.executor = executor;
+    }
+
+    public CompletableFuture<PromissoryNote.PromissoryMetadata> getPromissoryMetadata(BigInteger tokenId) {
+        return supply(() -> call(() -> promissoryNoteService.getPromissoryMetadata(tokenId)));
+    }
+
+    public CompletableFuture<RepaymentScheduler.RepaymentInfo> getPaymentInfo(BigInteger tokenId) {
+        return supply(() -> call(() -> repaymentSchedulerService.getPaymentInfo(tokenId)));
+    }
+
+    public CompletableFuture<BigInteger> balanceOf(String address) {
+        return supply(() -> rabbitCoinService.balanceOf(address));
+    }
+
+    /**
+     * 임의의 블로킹 작업을 블록체인 실행기에서 실행 (기본 타임아웃 적용)
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> task) {
+        return supply(task, timeoutMs);
+    }
+
+    public <T> CompletableFuture<T> supply(Supplier<T> task, long timeoutMs) {
+        return CompletableFuture.supplyAsync(task, executor)
+                .orTimeout(timeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    // checked 예외를 던지는 서비스 메서드 호출
+    private <T> T call(CheckedSupplier<T> supplier) {
+        try {
+            return supplier.get();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface CheckedSupplier<T> {
+        T get() throws Exception;
+    }
+}
@@ -0,0 +1,292 @@
+package com.rabbit.blockchain.service;
+
+import com.rabbit.blockchain.cache.RepaymentInfoSnapshotCache;
+import com.rabbit.blockchain.domain.dto.PromissoryNoteChainData;
+import com.rabbit.blockchain.wrapper.PromissoryNote;
+import com.rabbit.blockchain.wrapper.RepaymentScheduler;
+import com.rabbit.global.config.CacheConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.FunctionReturnDecoder;
+import org.web3j.abi.datatypes.Function;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.crypto.Credentials;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.request.Transaction;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthCall;
+
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.*;
+
+/**
+ * 여러 토큰의 차용증 메타데이터 / 상환 정보를 JSON-RPC 배치 요청 한 번으로 조회
+ * - 목록 화면에서 토큰마다 eth_call 2회씩 보내던 것을 묶어서 전송
+ * - 이벤트 디코딩에 필요한 블록 생성 시각도 같은 방식으로 조회
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BlockchainBatchService {
+
+    private final Web3j web3j;
+    private final Credentials credentials;
+    private final CacheManager cacheManager;
+    private final RepaymentInfoSnapshotCache repaymentInfoSnapshotCache;
+
+    @Value("${blockchain.promissoryNote.address}")
+    private String promissoryNoteAddress;
+
+    @Value("${blockchain.repaymentScheduler.address}")
+    private String repaymentSchedulerAddress;
+
+    // 한 번의 배치 요청에 담을 최대 eth_call 개수 (노드 배치 제한 대비)
+    @Value("${blockchain.batch.max-size:200}")
+    private int maxBatchSize;
+
+    /**
+     * 토큰 ID 목록의 메타데이터와 상환 정보를 한 번에 조회
+     * - 메타데이터는 PromissoryNoteService 와 같은 캐시를 공유
+     *
+     * - 개별 토큰 조회 실패 시 해당 토큰의 메타데이터/상환 정보만 null (나머지 토큰은 정상 반환)
+     *
+     * @param tokenIds 조회할 토큰 ID 목록
+     * @return 토큰 ID → 조회 결과 (입력 순서 유지)
+     */
+    public Map<BigInteger, PromissoryNoteChainData> getMetadataAndRepayment(List<BigInteger> tokenIds) {
+        List<BigInteger> distinctIds = tokenIds.stream().distinct().toList();
+        Cache metadataCache = cacheManager.getCache(CacheConfig.PROMISSORY_METADATA);
+        BigInteger readBlock = repaymentInfoSnapshotCache.currentBlock();
+
+        Map<BigInteger, PromissoryNote.PromissoryMetadata> metadataMap = new HashMap<>();
+        Map<BigInteger, RepaymentScheduler.RepaymentInfo> repaymentMap = new HashMap<>();
+
+        // 캐시에 없는 항목만 배치에 포함
+        List<BatchCall> calls = new ArrayList<>(distinctIds.size() * 2);
+        for (BigInteger tokenId : distinctIds) {
+            PromissoryNote.PromissoryMetadata cachedMetadata = metadataCache != null
+                    ? metadataCache.get(tokenId, PromissoryNote.PromissoryMetadata.class)
+                    : null;
+            if (cachedMetadata != null) {
+                metadataMap.put(tokenId, cachedMetadata);
+            } else {
+                calls.add(new BatchCall(tokenId, promissoryNoteAddress, PromissoryNoteService.promissoryMetadataFunction(tokenId)));
+            }
+
+            RepaymentScheduler.RepaymentInfo cachedRepayment = repaymentInfoSnapshotCache.get(tokenId);
+            if (cachedRepayment != null) {
+                repaymentMap.put(tokenId, cachedRepayment);
+            } else {
+                calls.add(new BatchCall(tokenId, repaymentSchedulerAddress, RepaymentSchedulerService.paymentInfoFunction(tokenId)));
+            }
+        }
+
+        List<Type> decoded = execute(calls);
+
+        for (int i = 0; i < calls.size(); i++) {
+            BigInteger tokenId = calls.get(i).tokenId();
+            Type value = decoded.get(i);
+
+            // 조회 실패한 항목은 비워 둠 (decode 에서 로그 남김)
+            if (value == null) {
+                continue;
+            }
+
+            if (value instanceof PromissoryNote.PromissoryMetadata metadata) {
+                metadataMap.put(tokenId, metadata);
+                if (metadataCache != null) {
+                    metadataCache.put(tokenId, metadata);
+                }
+            } else {
+                RepaymentScheduler.RepaymentInfo repaymentInfo = (RepaymentScheduler.RepaymentInfo) value;
+                repaymentMap.put(tokenId, repaymentInfo);
+                repaymentInfoSnapshotCache.put(tokenId, repaymentInfo, readBlock);
+            }
+        }
+
+        Map<BigInteger, PromissoryNoteChainData> result = new LinkedHashMap<>();
+        for (BigInteger tokenId : distinctIds) {
+            result.put(tokenId, new PromissoryNoteChainData(tokenId, metadataMap.get(tokenId), repaymentMap.get(tokenId)));
+        }
+        return result;
+    }
+
+    /**
+     * 토큰 ID 목록의 상환 정보만 한 번에 조회
+     * - 개별 토큰 조회 실패 시 해당 토큰만 결과에서 제외
+     *
+     * @param tokenIds 조회할 토큰 ID 목록
+     * @return 토큰 ID → 상환 정보 (입력 순서 유지)
+     */
+    public Map<BigInteger, RepaymentScheduler.RepaymentInfo> getPaymentInfos(List<BigInteger> tokenIds) {
+        List<BigInteger> distinctIds = tokenIds.stream().distinct().toList();
+        BigInteger readBlock = repaymentInfoSnapshotCache.currentBlock();
+
+        Map<BigInteger, RepaymentScheduler.RepaymentInfo> repaymentMap = new HashMap<>();
+
+        // 스냅샷 캐시에 없는 토큰만 배치에 포함
+        List<BatchCall> calls = new ArrayList<>();
+        for (BigInteger tokenId : distinctIds) {
+            RepaymentScheduler.RepaymentInfo cached = repaymentInfoSnapshotCache.get(tokenId);
+            if (cached != null) {
+                repaymentMap.put(tokenId, cached);
+            } else {
+                calls.add(new BatchCall(tokenId, repaymentSchedulerAddress, RepaymentSchedulerService.paymentInfoFunction(tokenId)));
+            }
+        }
+
+        List<Type> decoded = execute(calls);
+
+        for (int i = 0; i < calls.size(); i++) {
+            if (decoded.get(i) != null) {
+                RepaymentScheduler.RepaymentInfo repaymentInfo = (RepaymentScheduler.RepaymentInfo) decoded.get(i);
+                repaymentMap.put(calls.get(i).tokenId(), repaymentInfo);
+                repaymentInfoSnapshotCache.put(calls.get(i).tokenId(), repaymentInfo, readBlock);
+            }
+        }
+
+        Map<BigInteger, RepaymentScheduler.RepaymentInfo> result = new LinkedHashMap<>();
+        for (BigInteger tokenId : distinctIds) {
+            if (repaymentMap.containsKey(tokenId)) {
+                result.put(tokenId, repaymentMap.get(tokenId));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 블록 번호 목록의 블록 생성 시각을 한 번에 조회
+     * - 캐시에 없는 블록만 eth_getBlockByNumber 배치 요청으로 조회 (트랜잭션 본문 제외)
+     * - 조회에 실패한 블록은 결과에서 제외
+     *
+     * @param blockNumbers 조회할 블록 번호 목록
+     * @return 블록 번호 → 블록 생성 시각 (서울 시간)
+     */
+    public Map<BigInteger, ZonedDateTime> getBlockTimestamps(Collection<BigInteger> blockNumbers) {
+        Cache timestampCache = cacheManager.getCache(CacheConfig.BLOCK_TIMESTAMP);
+
+        Map<BigInteger, ZonedDateTime> result = new HashMap<>();
+        List<BigInteger> misses = new ArrayList<>();
+        for (BigInteger blockNumber : new LinkedHashSet<>(blockNumbers)) {
+            ZonedDateTime cached = timestampCache != null ? timestampCache.get(blockNumber, ZonedDateTime.class) : null;
+            if (cached != null) {
+                result.put(blockNumber, cached);
+            } else {
+                misses.add(blockNumber);
+            }
+        }
+
+        for (int from = 0; from < misses.size(); from += maxBatchSize) {
+            List<BigInteger> chunk = misses.subList(from, Math.min(from + maxBatchSize, misses.size()));
+
+            BatchRequest batch = web3j.newBatch();
+            Map<Long, BigInteger> blockNumberByRequestId = new HashMap<>();
+            for (BigInteger blockNumber : chunk) {
+                Request<?, EthBlock> request = web3j.ethGetBlockByNumber(DefaultBlockParameter.valueOf(blockNumber), false);
+                blockNumberByRequestId.put(request.getId(), blockNumber);
+                batch.add(request);
+            }
+
+            try {
+                for (Response<?> response : batch.send().getResponses()) {
+                    BigInteger blockNumber = blockNumberByRequestId.get(response.getId());
+                    if (blockNumber == null || !(response instanceof EthBlock ethBlock)
+                            || ethBlock.hasError() || ethBlock.getBlock() == null) {
+                        log.warn("[BlockchainBatch] 블록 조회 응답 오류 - 요청 id: {}", response.getId());
+                        continue;
+                    }
+
+                    ZonedDateTime timestamp = Instant.ofEpochSecond(ethBlock.getBlock().getTimestamp().longValue())
+                            .atZone(ZoneId.of("Asia/Seoul"));
+                    result.put(blockNumber, timestamp);
+                    if (timestampCache != null) {
+                        timestampCache.put(blockNumber, timestamp);
+                    }
+                }
+            } catch (Exception e) {
+                log.warn("[BlockchainBatch] 블록 시간 배치 조회 실패 - 블록 수: {}", chunk.size(), e);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * eth_call 목록을 배치로 전송하고 호출 순서대로 디코딩 결과를 반환
+     * - 개별 호출이 실패한 자리는 null (배치 요청 자체가 실패하면 그 묶음 전체가 null)
+     */
+    private List<Type> execute(List<BatchCall> calls) {
+        List<Type> results = new ArrayList<>(calls.size());
+
+        for (int from = 0; from < calls.size(); from += maxBatchSize) {
+            List<BatchCall> chunk = calls.subList(from, Math.min(from + maxBatchSize, calls.size()));
+
+            BatchRequest batch = web3j.newBatch();
+            List<Request<?, EthCall>> requests = new ArrayList<>(chunk.size());
+            for (BatchCall call : chunk) {
+                Request<?, EthCall> request = web3j.ethCall(
+                        Transaction.createEthCallTransaction(credentials.getAddress(), call.contractAddress(), FunctionEncoder.encode(call.function())),
+                        DefaultBlockParameterName.LATEST
+                );
+                requests.add(request);
+                batch.add(request);
+            }
+
+            // 응답 순서는 노드마다 다를 수 있으므로 요청 id 기준으로 매칭
+            Map<Long, Response<?>> responseById = new HashMap<>();
+            try {
+                BatchResponse batchResponse = batch.send();
+                for (Response<?> response : batchResponse.getResponses()) {
+                    responseById.put(response.getId(), response);
+                }
+            } catch (Exception e) {
+                log.error("[BlockchainBatch] ERROR : 배치 요청 실패 - 호출 수: {}", chunk.size(), e);
+                chunk.forEach(call -> results.add(null));
+                continue;
+            }
+
+            for (int i = 0; i < chunk.size(); i++) {
+                results.add(decode(chunk.get(i), responseById.get(requests.get(i).getId())));
+            }
+        }
+
+        return results;
+    }
+
+    private Type decode(BatchCall call, Response<?> response) {
+        if (!(response instanceof EthCall ethCall) || ethCall.hasError()) {
+            log.error("[BlockchainBatch] ERROR : {} 응답 오류 - tokenId: {}, error: {}",
+                    call.function().getName(), call.tokenId(), response != null && response.hasError() ? response.getError().getMessage() : "응답 없음");
+            return null;
+        }
+
+        try {
+            List<Type> decoded = FunctionReturnDecoder.decode(ethCall.getValue(), call.function().getOutputParameters());
+            if (decoded.isEmpty()) {
+                log.error("[BlockchainBatch] ERROR : {} 디코딩 결과 없음 - tokenId: {}", call.function().getName(), call.tokenId());
+                return null;
+            }
+            return decoded.get(0);
+        } catch (Exception e) {
+            log.error("[BlockchainBatch] ERROR : {} 디코딩 실패 - tokenId: {}", call.function().getName(), call.tokenId(), e);
+            return null;
+        }
+    }
+
+    private record BatchCall(BigInteger tokenId, String contractAddress, Function function) {
+    }
+}
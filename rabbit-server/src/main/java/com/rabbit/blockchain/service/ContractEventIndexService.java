@@ -0,0 +1,91 @@
+package com.rabbit.blockchain.service;
+
+import com.rabbit.blockchain.domain.dto.ContractStateChange;
+import com.rabbit.blockchain.domain.entity.ContractEvent;
+import com.rabbit.blockchain.domain.entity.EventIndexCheckpoint;
+import com.rabbit.blockchain.repository.ContractEventRepository;
+import com.rabbit.blockchain.repository.EventIndexCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 컨트랙트 이벤트 인덱스 저장
+ * - 이벤트 저장과 체크포인트 갱신을 하나의 트랜잭션으로 처리
+ * - 저장한 구간의 상태 변경은 애플리케이션 이벤트로 발행 (커밋 후 ContractEventWatcher 가 캐시 무효화 전파)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContractEventIndexService {
+
+    private final ContractEventRepository contractEventRepository;
+    private final EventIndexCheckpointRepository checkpointRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * 마지막으로 저장 완료한 블록 번호 조회
+     *
+     * @param indexerName 인덱서 이름
+     * @return 블록 번호 (체크포인트가 없으면 empty)
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> getLastIndexedBlock(String indexerName) {
+        return checkpointRepository.findById(indexerName).map(EventIndexCheckpoint::getLastBlock);
+    }
+
+    /**
+     * 블록 구간의 이벤트를 저장하고 체크포인트를 전진
+     * - 다른 서버가 이미 같은 구간을 저장했으면 아무것도 하지 않음
+     *
+     * @param indexerName 인덱서 이름
+     * @param fromBlock 구간 시작 블록
+     * @param toBlock 구간 끝 블록
+     * @param events 구간에서 디코딩한 이벤트 목록
+     * @param change 구간에서 캐시 무효화가 필요한 상태 변경
+     * @return 저장 여부
+     */
+    @Transactional
+    public boolean saveRange(String indexerName, long fromBlock, long toBlock, List<ContractEvent> events,
+                             ContractStateChange change) {
+        EventIndexCheckpoint checkpoint = checkpointRepository.findByIdForUpdate(indexerName)
+                .orElseGet(() -> checkpointRepository.save(EventIndexCheckpoint.builder()
+                        .indexerName(indexerName)
+                        .lastBlock(fromBlock - 1)
+                        .updatedAt(ZonedDateTime.now())
+                        .build()));
+
+        if (checkpoint.getLastBlock() != fromBlock - 1) {
+            log.debug("[EventIndexer] 체크포인트 불일치로 저장 생략 - 체크포인트: {}, 구간: {}~{}",
+                    checkpoint.getLastBlock(), fromBlock, toBlock);
+            return false;
+        }
+
+        int saved = 0;
+        for (ContractEvent event : events) {
+            if (contractEventRepository.existsByTransactionHashAndLogIndex(event.getTransactionHash(), event.getLogIndex())) {
+                continue;
+            }
+            contractEventRepository.save(event);
+            saved++;
+        }
+
+        checkpoint.advance(toBlock);
+
+        // 구간을 저장한 서버에서만 발행되므로 변경마다 한 번씩 처리됨
+        if (!change.transferredTokenIds().isEmpty() || !change.repaymentChanges().isEmpty()) {
+            applicationEventPublisher.publishEvent(change);
+        }
+
+        if (saved > 0) {
+            log.info("[EventIndexer] 이벤트 저장 - 구간: {}~{}, {}건", fromBlock, toBlock, saved);
+        }
+        return true;
+    }
+}
@@ -1,11 +1,14 @@
 package com.rabbit.blockchain.service;
 
 import com.rabbit.blockchain.wrapper.PromissoryNote;
+import com.rabbit.global.config.CacheConfig;
 import com.rabbit.global.exception.BusinessException;
 import com.rabbit.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.web3j.abi.FunctionEncoder;
 import org.web3j.abi.FunctionReturnDecoder;
@@ -17,7 +20,6 @@ import org.web3j.protocol.Web3j;
 import org.web3j.protocol.core.DefaultBlockParameterName;
 import org.web3j.protocol.core.methods.request.Transaction;
 import org.web3j.protocol.core.methods.response.TransactionReceipt;
-import org.web3j.tx.gas.DefaultGasProvider;
 
 import java.math.BigInteger;
 import java.util.*;
@@ -30,6 +32,9 @@ public class PromissoryNoteService {
     private final Web3j web3j;
     private final Credentials credentials;
 
+    // 차용증 컨트랙트 Wrapper (Web3jConfig 에서 생성한 싱글톤)
+    private final PromissoryNote promissoryNote;
+
     @Value("${blockchain.promissoryNote.address}")
     private String contractAddress;
 
@@ -48,18 +53,10 @@ public class PromissoryNoteService {
         // 가스 설정
 //        ContractGasProvider gasProvider = new StaticGasProvider(gasPrice, gasLimit);
 //        log.info("@@@metadata.addTerms.addTermsHash : {}",metadata.addTerms.addTermsHash);
-        // 컨트랙트 로드
-        PromissoryNote contract = PromissoryNote.load(
-                contractAddress,
-                web3j,
-                credentials,
-                new DefaultGasProvider()       // 가스 설정 (기본값 사용)
-        );
-
         try {
             // 민팅 트랜잭션 전송
             log.info("민팅 트랜잭션 전송 - 수신자: {}, 주소: {}", recipient, contractAddress);
-            TransactionReceipt receipt = contract.mint(metadata, recipient).send();
+            TransactionReceipt receipt = promissoryNote.mint(metadata, recipient).send();
 
             // 트랜잭션 성공 확인
             if (!receipt.isStatusOK()) {
@@ -87,46 +84,58 @@ public class PromissoryNoteService {
         }
     }
 
+    /**
+     * 차용증 NFT 메타데이터 조회
+     * - 메타데이터는 양도(AppendixNFTMinted) 시에만 변경되므로 tokenId 기준으로 캐시
+     */
+    @Cacheable(cacheNames = CacheConfig.PROMISSORY_METADATA, key = "#tokenId")
     public PromissoryNote.PromissoryMetadata getPromissoryMetadata(BigInteger tokenId) throws Exception {
-        // 1. 스마트 컨트랙트 로드
-        PromissoryNote contract = PromissoryNote.load(
-                contractAddress,               // 컨트랙트 주소
-                web3j,                         // web3j 인스턴스
-                credentials,                   // 서비스 지갑 (서명용)
-                new DefaultGasProvider()       // 가스 설정 (기본값 사용)
-        );
-
-        // 2. Function 정의
-        Function function = new Function(
-                "getPromissoryMetadata",
-                Collections.singletonList(new Uint256(tokenId)),
-                Collections.singletonList(new TypeReference<PromissoryNote.PromissoryMetadata>() {})
-        );
+        // 1. Function 정의
+        Function function = promissoryMetadataFunction(tokenId);
 
         try {
-            // 3. Function 호출 인코딩
+            // 2. Function 호출 인코딩
             String encodedFunction = FunctionEncoder.encode(function);
 
-            // 4. call 실행
+            // 3. call 실행
             String rawResponse = web3j.ethCall(
                     Transaction.createEthCallTransaction(credentials.getAddress(), contractAddress, encodedFunction),
                     DefaultBlockParameterName.LATEST
             ).send().getValue();
 
-            // 5. 응답 디코딩
+            // 4. 응답 디코딩
             List<Type> decoded = FunctionReturnDecoder.decode(rawResponse, function.getOutputParameters());
 
-            // 6. 디코딩 값이 비어있다면, 에러 반환
+            // 5. 디코딩 값이 비어있다면, 에러 반환
             if (decoded.isEmpty()) {
                 log.error("[PromissoryNote] ERROR : response decoed is Emtpy");
                 throw new BusinessException(ErrorCode.BUSINESS_LOGIC_ERROR, "NFT 조회 중 오류가 발생했습니다.");
             }
 
-            // 7. 응답 반환
+            // 6. 응답 반환
             return (PromissoryNote.PromissoryMetadata) decoded.get(0);
         } catch (Exception e) {
             log.error("[PromissoryNote] ERROR : {}", e.getMessage());
             throw new BusinessException(ErrorCode.BUSINESS_LOGIC_ERROR, "NFT 조회 중 오류가 발생했습니다.");
         }
     }
+
+    /**
+     * 차용증 NFT 메타데이터 캐시 무효화
+     */
+    @CacheEvict(cacheNames = CacheConfig.PROMISSORY_METADATA, key = "#tokenId")
+    public void evictPromissoryMetadata(BigInteger tokenId) {
+        log.info("[PromissoryNote] 메타데이터 캐시 무효화 - 토큰 ID: {}", tokenId);
+    }
+
+    /**
+     * getPromissoryMetadata 호출 Function 생성 (단건/배치 조회 공용)
+     */
+    public static Function promissoryMetadataFunction(BigInteger tokenId) {
+        return new Function(
+                "getPromissoryMetadata",
+                Collections.singletonList(new Uint256(tokenId)),
+                Collections.singletonList(new TypeReference<PromissoryNote.PromissoryMetadata>() {})
+        );
+    }
 }
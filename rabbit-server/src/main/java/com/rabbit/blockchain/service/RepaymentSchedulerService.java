@@ -1,5 +1,6 @@
 package com.rabbit.blockchain.service;
 
+import com.rabbit.blockchain.cache.RepaymentInfoSnapshotCache;
 import com.rabbit.blockchain.domain.dto.RepaymentInfo;
 import com.rabbit.blockchain.wrapper.RepaymentScheduler;
 import com.rabbit.global.exception.BusinessException;
@@ -18,7 +19,6 @@ import org.web3j.protocol.Web3j;
 import org.web3j.protocol.core.DefaultBlockParameterName;
 import org.web3j.protocol.core.methods.request.Transaction;
 import org.web3j.protocol.core.methods.response.TransactionReceipt;
-import org.web3j.tx.gas.DefaultGasProvider;
 
 import java.math.BigInteger;
 import java.util.Arrays;
@@ -35,52 +35,72 @@ public class RepaymentSchedulerService {
     private final Credentials credentials;
 
     private final RepaymentScheduler repaymentScheduler;
+    private final RepaymentInfoSnapshotCache repaymentInfoSnapshotCache;
 
     @Value("${blockchain.repaymentScheduler.address}")
     private String contractAddress;
 
+    /**
+     * 상환 정보 조회
+     * - 허용 범위(블록/시간) 안의 스냅샷이 있으면 캐시에서 응답
+     */
     public RepaymentScheduler.RepaymentInfo getPaymentInfo(BigInteger tokenId) throws Exception {
-        // 1. 스마트 컨트랙트 로드
-        RepaymentScheduler contract = RepaymentScheduler.load(
-                contractAddress,          // 컨트랙트 주소
-                web3j,                    // web3j 인스턴스
-                credentials,              // 서비스 지갑 (서명용)
-                new DefaultGasProvider()  // 기본 가스 설정
-        );
+        RepaymentScheduler.RepaymentInfo cached = repaymentInfoSnapshotCache.get(tokenId);
+        if (cached != null) {
+            return cached;
+        }
+        return getLatestPaymentInfo(tokenId);
+    }
 
-        // 2. Function 정의
-        Function function = new Function(
-                "getRepaymentInfo",
-                Collections.singletonList(new Uint256(tokenId)),
-                Collections.singletonList(new TypeReference<RepaymentScheduler.RepaymentInfo>() {})
-        );
+    /**
+     * 캐시를 거치지 않고 노드에서 최신 상환 정보 조회 (조회 결과로 스냅샷 갱신)
+     * - 경매 종료 정산처럼 반드시 최신 값이 필요한 곳에서 사용
+     */
+    public RepaymentScheduler.RepaymentInfo getLatestPaymentInfo(BigInteger tokenId) throws Exception {
+        BigInteger readBlock = repaymentInfoSnapshotCache.currentBlock();
+
+        // 1. Function 정의
+        Function function = paymentInfoFunction(tokenId);
 
         try {
-            // 3. Function 호출 인코딩
+            // 2. Function 호출 인코딩
             String encodedFunction = FunctionEncoder.encode(function);
 
-            // 4. call 실행
+            // 3. call 실행
             String rawResponse = web3j.ethCall(
                     Transaction.createEthCallTransaction(credentials.getAddress(), contractAddress, encodedFunction),
                     DefaultBlockParameterName.LATEST
             ).send().getValue();
 
-            // 5. 응답 디코딩
+            // 4. 응답 디코딩
             List<Type> decoded = FunctionReturnDecoder.decode(rawResponse, function.getOutputParameters());
 
-            // 6. 디코딩 값이 비어있다면, 에러 반환
+            // 5. 디코딩 값이 비어있다면, 에러 반환
             if (decoded.isEmpty()) {
                 throw new BusinessException(ErrorCode.BUSINESS_LOGIC_ERROR, "1");
             }
 
-            // 7. 응답 반환
-            return (RepaymentScheduler.RepaymentInfo) decoded.get(0);
+            // 6. 스냅샷 저장 후 응답 반환
+            RepaymentScheduler.RepaymentInfo repaymentInfo = (RepaymentScheduler.RepaymentInfo) decoded.get(0);
+            repaymentInfoSnapshotCache.put(tokenId, repaymentInfo, readBlock);
+            return repaymentInfo;
         } catch (Exception e) {
             log.error("[RepaymentScheduler] ERROR : ", e);
             throw new BusinessException(ErrorCode.BUSINESS_LOGIC_ERROR, "1");
         }
     }
 
+    /**
+     * getRepaymentInfo 호출 Function 생성 (단건/배치 조회 공용)
+     */
+    public static Function paymentInfoFunction(BigInteger tokenId) {
+        return new Function(
+                "getRepaymentInfo",
+                Collections.singletonList(new Uint256(tokenId)),
+                Collections.singletonList(new TypeReference<RepaymentScheduler.RepaymentInfo>() {})
+        );
+    }
+
     public RepaymentInfo getRepaymentInfo(BigInteger tokenId) throws Exception {
         Function function = new Function(
                 "getRepaymentInfo",
@@ -167,6 +187,9 @@ public class RepaymentSchedulerService {
                 log.error("[BLOCKCHAIN ERROR] RepaymentScheduler getEarlyRepaymentFee 잔액 부족");
                 throw new BusinessException(ErrorCode.BLOCKCHAIN_ERROR, "RAB 코인 잔액이 부족합니다");
             }
+
+            // 4. 상환 정보가 바뀌었으므로 스냅샷 무효화
+            repaymentInfoSnapshotCache.invalidate(tokenId, receipt.getBlockNumber());
         } catch (BusinessException e) {
             throw e;
         } catch (Exception e){
@@ -34,6 +34,7 @@ public class SysCommonCodes {
                 PromissoryNote.values()[0].getCodeType(),
                 CoinLog.values()[0].getCodeType(),
                 Bid.values()[0].getCodeType(),
+                BidSettlement.values()[0].getCodeType(),
                 Contract.values()[0].getCodeType(), // 계약 상태 코드 추가
                 Repayment.values()[0].getCodeType(),
                 NotificationType.values()[0].getCodeType(),
@@ -122,6 +123,38 @@ public class SysCommonCodes {
         }
     }
 
+    /**
+     * 입찰 확정(RAB 예치) 상태 코드 열거형
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum BidSettlement implements SysCommonCodeEnum {
+        PENDING("확정 대기", "입찰이 접수되어 RAB 예치 대기 중", 1),
+        SUBMITTED("확정 중", "RAB 예치 트랜잭션 처리 중", 2),
+        CONFIRMED("확정", "RAB 예치가 완료되어 입찰이 확정됨", 3),
+        REJECTED("거절", "RAB 예치에 실패하여 입찰이 취소됨", 4);
+
+        private final String codeName;
+        private final String description;
+        private final int displayOrder;
+
+        private static final String CODE_TYPE = "BID_SETTLEMENT_STATUS";
+
+        @Override
+        public String getCode() {
+            return this.name();
+        }
+
+        @Override
+        public String getCodeType() {
+            return CODE_TYPE;
+        }
+
+        public static BidSettlement fromCode(String code) {
+            return fromCodeCommon(values(), code, CODE_TYPE);
+        }
+    }
+
     /**
      * 계약 상태 코드 열거형
      */
@@ -0,0 +1,19 @@
+package com.rabbit.global.code.service.impl;
+
+import com.rabbit.global.code.domain.enums.SysCommonCodes;
+import com.rabbit.global.code.service.SysCommonCodeEnumManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 입찰 확정 상태 코드 관리자
+ */
+@Component
+public class BidSettlementStatusCodeManager extends SysCommonCodeEnumManager<SysCommonCodes.BidSettlement> {
+    @Override
+    protected List<SysCommonCodes.BidSettlement> retrieveEnumValues() {
+        return Arrays.asList(SysCommonCodes.BidSettlement.values());
+    }
+}
@@ -0,0 +1,96 @@
+package com.rabbit.global.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Collections;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기 실행기 설정
+ */
+@Configuration
+public class AsyncConfig {
+
+    public static final String BLOCKCHAIN_EXECUTOR = "blockchainExecutor";
+    public static final String FINALIZATION_EXECUTOR = "finalizationExecutor";
+    public static final String SSE_SENDER_EXECUTOR = "sseSenderExecutor";
+
+    @Value("${blockchain.async.core-pool-size:8}")
+    private int corePoolSize;
+
+    @Value("${blockchain.async.max-pool-size:16}")
+    private int maxPoolSize;
+
+    @Value("${blockchain.async.queue-capacity:200}")
+    private int queueCapacity;
+
+    @Value("${auction.finalization.pool-size:4}")
+    private int finalizationPoolSize;
+
+    @Value("${sse.sender.pool-size:8}")
+    private int sseSenderPoolSize;
+
+    /**
+     * 블록체인 조회 전용 I/O 실행기
+     * - 크기가 제한된 풀/큐를 사용하고, 큐가 가득 차면 호출한 스레드에서 직접 실행해서 요청 유입 속도를 늦춤
+     * - executor.* 메트릭으로 활성 스레드/대기 작업 수를 노출
+     */
+    @Bean(name = BLOCKCHAIN_EXECUTOR)
+    public ThreadPoolTaskExecutor blockchainExecutor(MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("chain-io-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+
+        ExecutorServiceMetrics.monitor(meterRegistry, executor.getThreadPoolExecutor(), BLOCKCHAIN_EXECUTOR, Collections.emptyList());
+        return executor;
+    }
+
+    /**
+     * 경매 종료 후속 작업(알림/메일/PDF) 실행기
+     * - 경매 종료 1건의 독립 단계들을 병렬로 실행, 큐가 가득 차면 호출한 스레드에서 실행
+     */
+    @Bean(name = FINALIZATION_EXECUTOR)
+    public ThreadPoolTaskExecutor finalizationExecutor(MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(finalizationPoolSize);
+        executor.setMaxPoolSize(finalizationPoolSize);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("auction-final-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+
+        ExecutorServiceMetrics.monitor(meterRegistry, executor.getThreadPoolExecutor(), FINALIZATION_EXECUTOR, Collections.emptyList());
+        return executor;
+    }
+
+    /**
+     * SSE 전송 실행기
+     * - 연결별 대기열을 비우는 작업만 실행 (연결당 동시에 최대 1개라 대기 작업 수는 연결 수 이하)
+     * - 느린 연결이 스레드를 잡고 있어도 Redis 수신 스레드와 다른 연결의 대기열은 영향 없음
+     */
+    @Bean(name = SSE_SENDER_EXECUTOR)
+    public ThreadPoolTaskExecutor sseSenderExecutor(MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(sseSenderPoolSize);
+        executor.setMaxPoolSize(sseSenderPoolSize);
+        executor.setThreadNamePrefix("sse-send-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+
+        ExecutorServiceMetrics.monitor(meterRegistry, executor.getThreadPoolExecutor(), SSE_SENDER_EXECUTOR, Collections.emptyList());
+        return executor;
+    }
+}
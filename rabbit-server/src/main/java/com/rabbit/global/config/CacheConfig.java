@@ -1,11 +1,14 @@
 package com.rabbit.global.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
 import java.util.Arrays;
 
 /**
@@ -15,13 +18,45 @@ import java.util.Arrays;
 @EnableCaching
 public class CacheConfig {
 
+    // 차용증 NFT 메타데이터 캐시 (tokenId 기준)
+    public static final String PROMISSORY_METADATA = "promissoryMetadata";
+
+    // 상환 정보 스냅샷 캐시 (tokenId 기준, 블록 번호와 함께 저장)
+    public static final String REPAYMENT_INFO_SNAPSHOT = "repaymentInfoSnapshot";
+
+    // 블록 생성 시각 캐시 (blockNumber 기준, 확정된 블록의 시각은 바뀌지 않음)
+    public static final String BLOCK_TIMESTAMP = "blockTimestamp";
+
+    // 경매 상세 조회 캐시 (auctionId 기준, 입찰/종료/상환 시 무효화)
+    public static final String AUCTION_DETAIL = "auctionDetail";
+
+    @Value("${cache.promissory-metadata.max-size:10000}")
+    private long promissoryMetadataMaxSize;
+
+    @Value("${cache.repayment-info.max-size:10000}")
+    private long repaymentInfoMaxSize;
+
+    @Value("${cache.repayment-info.max-age-seconds:30}")
+    private long repaymentInfoMaxAgeSeconds;
+
+    @Value("${cache.block-timestamp.max-size:50000}")
+    private long blockTimestampMaxSize;
+
+    @Value("${cache.auction-detail.max-size:5000}")
+    private long auctionDetailMaxSize;
+
+    @Value("${cache.auction-detail.max-age-seconds:300}")
+    private long auctionDetailMaxAgeSeconds;
+
     /**
      * 캐시 매니저 빈 설정
+     * - 모든 캐시는 hit/miss/eviction 통계를 기록하며 actuator(cache.*) 메트릭으로 노출됨
      * @return 캐시 매니저
      */
     @Bean
     public CacheManager cacheManager() {
-        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(Caffeine.newBuilder().recordStats());
 
         // 캐시 이름 설정
         cacheManager.setCacheNames(Arrays.asList(
@@ -30,6 +65,31 @@ public class CacheConfig {
                 "translations"     // 다국어 캐시
         ));
 
+        // 블록체인 조회 캐시 (크기 제한)
+        cacheManager.registerCustomCache(PROMISSORY_METADATA, Caffeine.newBuilder()
+                .maximumSize(promissoryMetadataMaxSize)
+                .recordStats()
+                .build());
+
+        // 시간 허용 범위는 만료 시간으로 처리, 블록 허용 범위는 RepaymentInfoSnapshotCache 에서 확인
+        cacheManager.registerCustomCache(REPAYMENT_INFO_SNAPSHOT, Caffeine.newBuilder()
+                .maximumSize(repaymentInfoMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(repaymentInfoMaxAgeSeconds))
+                .recordStats()
+                .build());
+
+        cacheManager.registerCustomCache(BLOCK_TIMESTAMP, Caffeine.newBuilder()
+                .maximumSize(blockTimestampMaxSize)
+                .recordStats()
+                .build());
+
+        // 무효화 메시지를 놓친 경우에 대비해 만료 시간을 둠
+        cacheManager.registerCustomCache(AUCTION_DETAIL, Caffeine.newBuilder()
+                .maximumSize(auctionDetailMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(auctionDetailMaxAgeSeconds))
+                .recordStats()
+                .build());
+
         return cacheManager;
     }
 }
@@ -4,27 +4,27 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarables;
 import org.springframework.amqp.core.DirectExchange;
 import org.springframework.amqp.core.Queue;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Configuration
 public class RabbitMQConfig {
 
-    public static final String DELAY_QUEUE = "auction.delay.queue";
     public static final String DEAD_QUEUE = "auction.dead.queue";
     public static final String DEAD_EXCHANGE = "auction.dead.exchange";
     public static final String ROUTING_KEY = "auction.dead";
 
-    @Bean
-    public Queue delayQueue() {
-        Map<String, Object> args = new HashMap<>();
-        args.put("x-dead-letter-exchange", DEAD_EXCHANGE);
-        args.put("x-dead-letter-routing-key", ROUTING_KEY);
-        args.put("x-queue-type", "classic");
+    // 경매 종료 재시도 단계별 대기 큐 (모든 메시지가 같은 큐 단위 TTL 이라 들어온 순서대로 만료되어 서로 막지 않음, 메시지별 TTL 은 쓰지 않음)
+    public static final String RETRY_QUEUE_PREFIX = "auction.retry.queue.";
+    public static final long[] RETRY_DELAYS_MS = {5_000L, 30_000L, 120_000L, 600_000L, 1_800_000L};
 
-        return new Queue(DELAY_QUEUE, true, false, false, args);
+    public static String retryQueue(int tier) {
+        return RETRY_QUEUE_PREFIX + tier;
     }
 
     @Bean
@@ -44,4 +44,19 @@ public class RabbitMQConfig {
                 .to(deadExchange())
                 .with(ROUTING_KEY);
     }
+
+    @Bean
+    public Declarables retryQueues() {
+        List<Queue> queues = new ArrayList<>();
+        for (int tier = 0; tier < RETRY_DELAYS_MS.length; tier++) {
+            Map<String, Object> args = new HashMap<>();
+            args.put("x-dead-letter-exchange", DEAD_EXCHANGE);
+            args.put("x-dead-letter-routing-key", ROUTING_KEY);
+            args.put("x-message-ttl", RETRY_DELAYS_MS[tier]);
+            args.put("x-queue-type", "classic");
+
+            queues.add(new Queue(retryQueue(tier), true, false, false, args));
+        }
+        return new Declarables(queues);
+    }
 }
@@ -1,11 +1,16 @@
 package com.rabbit.global.config;
 
-import com.rabbit.sse.redis.SseRedisSubscriber;
+import com.rabbit.auction.cache.AuctionDetailCache;
+import com.rabbit.auction.redis.AuctionDetailInvalidationSubscriber;
+import com.rabbit.auction.redis.BidSequencerInvalidationSubscriber;
+import com.rabbit.auction.service.BidSequencer;
+import com.rabbit.blockchain.listener.ContractEventWatcher;
+import com.rabbit.blockchain.redis.ContractStateInvalidationSubscriber;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 @Configuration
@@ -13,13 +18,17 @@ import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 public class RedisConfig {
 
     private final RedisConnectionFactory redisConnectionFactory;
-    private final SseRedisSubscriber sseRedisSubscriber;
+    private final AuctionDetailInvalidationSubscriber auctionDetailInvalidationSubscriber;
+    private final BidSequencerInvalidationSubscriber bidSequencerInvalidationSubscriber;
+    private final ContractStateInvalidationSubscriber contractStateInvalidationSubscriber;
 
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer() {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(redisConnectionFactory);
-        container.addMessageListener(sseRedisSubscriber, new PatternTopic("notifications"));
+        container.addMessageListener(auctionDetailInvalidationSubscriber, new ChannelTopic(AuctionDetailCache.INVALIDATION_CHANNEL));
+        container.addMessageListener(bidSequencerInvalidationSubscriber, new ChannelTopic(BidSequencer.INVALIDATION_CHANNEL));
+        container.addMessageListener(contractStateInvalidationSubscriber, new ChannelTopic(ContractEventWatcher.INVALIDATION_CHANNEL));
         return container;
     }
 }
\ No newline at end of file
@@ -5,13 +5,16 @@ import com.rabbit.global.security.JwtAuthenticationEntryPoint;
 import com.rabbit.global.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -20,6 +23,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
 @Configuration
@@ -32,6 +36,10 @@ public class SecurityConfig {
 
     private final CorsProperties corsProperties;
 
+    // 관리자 API 를 호출할 수 있는 사용자 ID (비어 있으면 모두 거부)
+    @Value("${admin.user-ids:}")
+    private Set<String> adminUserIds;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         return http
@@ -49,6 +57,10 @@ public class SecurityConfig {
 //                                .requestMatchers("/api/v1/auctions/**").permitAll()
                                 .requestMatchers("/api/v1/coins/**").permitAll()
 
+                                // 관리자 API 는 로그인만으로는 안 되고 허용된 사용자만 호출 가능
+                                .requestMatchers("/api/v1/admin/**").access((authentication, context) ->
+                                        new AuthorizationDecision(isAdmin(authentication.get())))
+
                                 .requestMatchers(HttpMethod.GET, "/api/v1/auctions/**").permitAll()
 
 //                                .requestMatchers(HttpMethod.POST, "/api/v1/auctions/*/force-end").permitAll()
@@ -62,6 +74,12 @@ public class SecurityConfig {
                 .build();
     }
 
+    private boolean isAdmin(Authentication authentication) {
+        return authentication != null
+                && authentication.isAuthenticated()
+                && adminUserIds.contains(String.valueOf(authentication.getPrincipal()));
+    }
+
     // 허용된 프론트엔드 도메인만 API 요청 가능
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
@@ -1,18 +1,31 @@
 package com.rabbit.global.config;
 
+import com.rabbit.blockchain.gateway.ChainGateway;
+import com.rabbit.blockchain.gateway.RpcEndpoint;
+import com.rabbit.blockchain.gateway.RpcEndpointRouter;
 import com.rabbit.blockchain.wrapper.PromissoryNote;
 import com.rabbit.blockchain.wrapper.PromissoryNoteAuction;
 import com.rabbit.blockchain.wrapper.RabbitCoin;
 import com.rabbit.blockchain.wrapper.RepaymentScheduler;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.web3j.crypto.Credentials;
 import org.web3j.protocol.Web3j;
 import org.web3j.protocol.http.HttpService;
+import org.web3j.tx.gas.ContractGasProvider;
 import org.web3j.tx.gas.DefaultGasProvider;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 @Slf4j
 @Configuration
 public class Web3jConfig {
@@ -35,9 +48,89 @@ public class Web3jConfig {
     @Value("${blockchain.rabbitCoin.address}")
     private String rabbitCoinAddress;
 
+    // 노드 HTTP 연결 설정
+    @Value("${blockchain.rpc.connect-timeout-ms:5000}")
+    private long connectTimeoutMs;
+
+    @Value("${blockchain.rpc.read-timeout-ms:10000}")
+    private long readTimeoutMs;
+
+    @Value("${blockchain.rpc.max-idle-connections:20}")
+    private int maxIdleConnections;
+
+    @Value("${blockchain.rpc.keep-alive-seconds:300}")
+    private long keepAliveSeconds;
+
+    // 동시 RPC 요청 제한 (Tomcat 스레드 수보다 작게 유지)
+    @Value("${blockchain.rpc.max-concurrency:20}")
+    private int maxConcurrency;
+
+    @Value("${blockchain.rpc.acquire-timeout-ms:3000}")
+    private long acquireTimeoutMs;
+
+    // 추가 읽기용 RPC 엔드포인트 (쉼표 구분, 비어 있으면 rpcUrl 하나만 사용)
+    @Value("${blockchain.rpc.urls:}")
+    private String additionalRpcUrls;
+
+    @Value("${blockchain.rpc.max-block-lag:5}")
+    private long maxBlockLag;
+
+    @Value("${blockchain.rpc.hedge.enabled:false}")
+    private boolean hedgeEnabled;
+
+    @Value("${blockchain.rpc.hedge.min-delay-ms:50}")
+    private long hedgeMinDelayMs;
+
+    /**
+     * 노드 연결용 HTTP 클라이언트 (연결 풀 공유)
+     */
     @Bean
-    public Web3j web3j() { // Spring 프로젝트 어디서든 블록체인과 연결
-        Web3j web3j = Web3j.build(new HttpService(rpcUrl));
+    public OkHttpClient web3jHttpClient() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxConcurrency);
+        dispatcher.setMaxRequestsPerHost(maxConcurrency);
+
+        return new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(maxIdleConnections, keepAliveSeconds, TimeUnit.SECONDS))
+                .dispatcher(dispatcher)
+                .connectTimeout(connectTimeoutMs, TimeUnit.MILLISECONDS)
+                .readTimeout(readTimeoutMs, TimeUnit.MILLISECONDS)
+                .writeTimeout(readTimeoutMs, TimeUnit.MILLISECONDS)
+                .retryOnConnectionFailure(true)
+                .build();
+    }
+
+    /**
+     * RPC 엔드포인트 라우터
+     * - rpcUrl 이 기본(primary) 엔드포인트로 쓰기 요청을 전담하고, 읽기 요청은 전체 엔드포인트에 분산
+     */
+    @Bean
+    public RpcEndpointRouter rpcEndpointRouter(OkHttpClient web3jHttpClient, MeterRegistry meterRegistry) {
+        List<RpcEndpoint> endpoints = new ArrayList<>();
+        endpoints.add(new RpcEndpoint("primary", new HttpService(rpcUrl, web3jHttpClient)));
+
+        Arrays.stream(additionalRpcUrls.split(","))
+                .map(String::trim)
+                .filter(url -> !url.isEmpty() && !url.equals(rpcUrl))
+                .distinct()
+                .forEach(url -> endpoints.add(
+                        new RpcEndpoint("rpc-" + endpoints.size(), new HttpService(url, web3jHttpClient))));
+
+        log.info("RPC endpoints: {}개 (hedge: {})", endpoints.size(), hedgeEnabled);
+        return new RpcEndpointRouter(endpoints, meterRegistry, hedgeEnabled, hedgeMinDelayMs, maxBlockLag);
+    }
+
+    /**
+     * RPC 호출 게이트웨이 (메트릭 기록 + 동시 요청 제한)
+     */
+    @Bean
+    public ChainGateway chainGateway(RpcEndpointRouter rpcEndpointRouter, MeterRegistry meterRegistry) {
+        return new ChainGateway(rpcEndpointRouter, meterRegistry, maxConcurrency, acquireTimeoutMs);
+    }
+
+    @Bean
+    public Web3j web3j(ChainGateway chainGateway) { // Spring 프로젝트 어디서든 블록체인과 연결
+        Web3j web3j = Web3j.build(chainGateway);
 
         // 연결 테스트 (선택사항)
         try {
@@ -56,22 +149,27 @@ public class Web3jConfig {
     }
 
     @Bean
-    public PromissoryNoteAuction promissoryNoteAuction(Web3j web3j, Credentials credentials) {
-        return PromissoryNoteAuction.load(promissoryNoteAuctionAddress, web3j, credentials, new DefaultGasProvider());
+    public ContractGasProvider contractGasProvider() { // 모든 컨트랙트 Wrapper 가 공유하는 가스 설정
+        return new DefaultGasProvider();
+    }
+
+    @Bean
+    public PromissoryNoteAuction promissoryNoteAuction(Web3j web3j, Credentials credentials, ContractGasProvider contractGasProvider) {
+        return PromissoryNoteAuction.load(promissoryNoteAuctionAddress, web3j, credentials, contractGasProvider);
     }
 
     @Bean
-    public RepaymentScheduler repaymentScheduler(Web3j web3j, Credentials credentials) {
-        return RepaymentScheduler.load(repaymentSchedulerAddress, web3j, credentials, new DefaultGasProvider());
+    public RepaymentScheduler repaymentScheduler(Web3j web3j, Credentials credentials, ContractGasProvider contractGasProvider) {
+        return RepaymentScheduler.load(repaymentSchedulerAddress, web3j, credentials, contractGasProvider);
     }
 
     @Bean
-    public PromissoryNote promissoryNote(Web3j web3j, Credentials credentials) {
-        return PromissoryNote.load(promissoryNoteAddress, web3j, credentials, new DefaultGasProvider());
+    public PromissoryNote promissoryNote(Web3j web3j, Credentials credentials, ContractGasProvider contractGasProvider) {
+        return PromissoryNote.load(promissoryNoteAddress, web3j, credentials, contractGasProvider);
     }
 
     @Bean
-    public RabbitCoin rabbitCoin(Web3j web3j, Credentials credentials) {
-        return RabbitCoin.load(rabbitCoinAddress, web3j, credentials, new DefaultGasProvider());
+    public RabbitCoin rabbitCoin(Web3j web3j, Credentials credentials, ContractGasProvider contractGasProvider) {
+        return RabbitCoin.load(rabbitCoinAddress, web3j, credentials, contractGasProvider);
     }
 }
@@ -43,6 +43,7 @@ public enum ErrorCode {
     METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "error.method.not.allowed", "지원하지 않는 HTTP 메소드입니다"),
 
     FUNCTIONALITY_NOT_SUPPORTED(HttpStatus.BAD_REQUEST, "error.functionality.not.supported", "지원하지 않는 기능입니다"),
+    SSE_CONNECTION_LIMIT(HttpStatus.SERVICE_UNAVAILABLE, "error.sse.connection.limit", "실시간 연결이 많아 연결할 수 없습니다. 잠시 후 다시 시도해주세요"),
 
     // =========== Blockchain ===========
     BLOCKCHAIN_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "error.blockchain", "블록체인 처리 중 오류가 발생했습니다"),
@@ -0,0 +1,17 @@
+package com.rabbit.global.jpa;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드의 요청당 최대 SQL 실행 횟수
+ * - 결과 건수와 상관없이 일정해야 하는 API 에 붙여서 N+1 회귀를 감지
+ * - 초과하면 QueryCountInterceptor 가 경고 로그와 jpa.query-budget.exceeded 메트릭을 남김
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+    int value();
+}
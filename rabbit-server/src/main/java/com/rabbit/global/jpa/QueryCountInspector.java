@@ -0,0 +1,35 @@
+package com.rabbit.global.jpa;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 요청 스레드별 SQL 실행 횟수 집계
+ * - Hibernate 가 준비하는 모든 SQL 을 지나가므로 QueryDSL/JPQL/지연 로딩 쿼리가 모두 집계됨
+ * - start() 를 호출한 스레드에서만 집계 (QueryCountInterceptor 가 요청마다 시작/종료)
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNTER = new ThreadLocal<>();
+
+    public static void start() {
+        COUNTER.set(new long[1]);
+    }
+
+    /**
+     * 집계 종료 후 실행 횟수 반환 (시작하지 않았으면 -1)
+     */
+    public static long stop() {
+        long[] counter = COUNTER.get();
+        COUNTER.remove();
+        return counter != null ? counter[0] : -1;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        long[] counter = COUNTER.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+        return sql;
+    }
+}
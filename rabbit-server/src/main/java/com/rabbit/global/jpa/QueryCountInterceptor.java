@@ -0,0 +1,76 @@
+package com.rabbit.global.jpa;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * {@link QueryBudget} 이 붙은 API 의 요청당 SQL 실행 횟수 확인
+ * - 요청마다 실행 횟수를 jpa.statements 메트릭으로 기록
+ * - 한도를 넘으면 경고 로그 + jpa.query-budget.exceeded 카운터 증가
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jpa.query-budget.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class QueryCountInterceptor implements HandlerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (budgetOf(handler) != null) {
+            QueryCountInspector.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        QueryBudget budget = budgetOf(handler);
+        if (budget == null) {
+            return;
+        }
+
+        long count = QueryCountInspector.stop();
+        if (count < 0) {
+            return;
+        }
+
+        String endpoint = endpointOf((HandlerMethod) handler);
+        DistributionSummary.builder("jpa.statements")
+                .description("요청당 SQL 실행 횟수")
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .record(count);
+
+        if (count > budget.value()) {
+            Counter.builder("jpa.query-budget.exceeded")
+                    .description("요청당 SQL 실행 한도 초과 횟수")
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("[QueryBudget] SQL 실행 한도 초과 - {} {}, 실행={}, 한도={}",
+                    request.getMethod(), request.getRequestURI(), count, budget.value());
+        }
+    }
+
+    private QueryBudget budgetOf(Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getMethodAnnotation(QueryBudget.class);
+        }
+        return null;
+    }
+
+    private String endpointOf(HandlerMethod handlerMethod) {
+        return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+    }
+}
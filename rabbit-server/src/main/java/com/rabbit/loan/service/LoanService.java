@@ -3,7 +3,9 @@ package com.rabbit.loan.service;
 import com.rabbit.blockchain.service.EventService;
 import com.rabbit.auction.repository.AuctionRepository;
 import com.rabbit.bankApi.service.BankService;
+import com.rabbit.blockchain.domain.dto.PromissoryNoteChainData;
 import com.rabbit.blockchain.domain.dto.RepaymentInfo;
+import com.rabbit.blockchain.service.BlockchainBatchService;
 import com.rabbit.blockchain.service.PromissoryNoteService;
 import com.rabbit.blockchain.service.RepaymentSchedulerService;
 import com.rabbit.blockchain.wrapper.PromissoryNote;
@@ -39,6 +41,7 @@ public class LoanService {
 
     private final PromissoryNoteService promissoryNoteService;
     private final RepaymentSchedulerService repaymentSchedulerService;
+    private final BlockchainBatchService blockchainBatchService;
     private final EventService eventService;
 
     private final ContractRepository contractRepository;
@@ -67,10 +70,19 @@ public class LoanService {
             long monthlyOutgoingLa = 0L;
             List<BigInteger> outgoingDts = new ArrayList<>();
 
-            // 2. 토큰 Id를 조회하며, 각 NFT 정보를 호출
+            // 2. 토큰 Id 목록으로 NFT 정보를 배치 조회
+            Map<BigInteger, PromissoryNoteChainData> chainDataMap = blockchainBatchService.getMetadataAndRepayment(
+                    contracts.stream().map(Contract::getTokenId).toList());
+
             for (Contract contract : contracts) {
-                PromissoryNote.PromissoryMetadata promissoryMetadata = promissoryNoteService.getPromissoryMetadata(contract.getTokenId());
-                RepaymentScheduler.RepaymentInfo repaymentInfo = repaymentSchedulerService.getPaymentInfo(contract.getTokenId());
+                PromissoryNoteChainData chainData = chainDataMap.get(contract.getTokenId());
+                // 체인 조회에 실패한 토큰은 제외하고 나머지만 응답
+                if (chainData == null || !chainData.isComplete()) {
+                    log.warn("[블록체인 리스트 조회] 체인 정보 조회 실패로 제외 - tokenId {}", contract.getTokenId());
+                    continue;
+                }
+                PromissoryNote.PromissoryMetadata promissoryMetadata = chainData.getMetadata();
+                RepaymentScheduler.RepaymentInfo repaymentInfo = chainData.getRepaymentInfo();
 
                 // 상환 상태가 활성화되어있는지 확인
                 if(!repaymentInfo.activeFlag) continue;
@@ -111,12 +123,21 @@ public class LoanService {
         List<BorrowListResponseDTO> response = new ArrayList<>();
 
         try {
-            // 2. 토큰 Id를 조회하며, 각 NFT 정보를 호출
+            // 2. 토큰 Id 목록으로 NFT 정보를 배치 조회
+            Map<BigInteger, PromissoryNoteChainData> chainDataMap = blockchainBatchService.getMetadataAndRepayment(
+                    contracts.stream().map(Contract::getTokenId).toList());
+
             for (Contract contract : contracts) {
                 log.info("[블록체인 리스트 조회] 채무 목록 : tokenId {}", contract.getTokenId());
 
-                PromissoryNote.PromissoryMetadata promissoryMetadata = promissoryNoteService.getPromissoryMetadata(contract.getTokenId());
-                RepaymentScheduler.RepaymentInfo repaymentInfo = repaymentSchedulerService.getPaymentInfo(contract.getTokenId());
+                PromissoryNoteChainData chainData = chainDataMap.get(contract.getTokenId());
+                // 체인 조회에 실패한 토큰은 제외하고 나머지만 응답
+                if (chainData == null || !chainData.isComplete()) {
+                    log.warn("[블록체인 리스트 조회] 체인 정보 조회 실패로 제외 - tokenId {}", contract.getTokenId());
+                    continue;
+                }
+                PromissoryNote.PromissoryMetadata promissoryMetadata = chainData.getMetadata();
+                RepaymentScheduler.RepaymentInfo repaymentInfo = chainData.getRepaymentInfo();
 
                 // 상환 상태가 활성화되어있는지 확인
                 if(!repaymentInfo.activeFlag) continue;
@@ -230,10 +251,19 @@ public class LoanService {
             long monthlyIncomingLa = 0L;
             List<BigInteger> incomingDts = new ArrayList<>();
 
-            // 2. 토큰 Id를 조회하며, 각 NFT 정보를 호출
+            // 2. 토큰 Id 목록으로 NFT 정보를 배치 조회
+            Map<BigInteger, PromissoryNoteChainData> chainDataMap = blockchainBatchService.getMetadataAndRepayment(
+                    contracts.stream().map(Contract::getTokenId).toList());
+
             for (Contract contract : contracts) {
-                PromissoryNote.PromissoryMetadata promissoryMetadata = promissoryNoteService.getPromissoryMetadata(contract.getTokenId());
-                RepaymentScheduler.RepaymentInfo repaymentInfo = repaymentSchedulerService.getPaymentInfo(contract.getTokenId());
+                PromissoryNoteChainData chainData = chainDataMap.get(contract.getTokenId());
+                // 체인 조회에 실패한 토큰은 제외하고 나머지만 응답
+                if (chainData == null || !chainData.isComplete()) {
+                    log.warn("[블록체인 리스트 조회] 체인 정보 조회 실패로 제외 - tokenId {}", contract.getTokenId());
+                    continue;
+                }
+                PromissoryNote.PromissoryMetadata promissoryMetadata = chainData.getMetadata();
+                RepaymentScheduler.RepaymentInfo repaymentInfo = chainData.getRepaymentInfo();
 
                 // 상환 상태가 활성화되어있는지 확인
                 if(!repaymentInfo.activeFlag) continue;
@@ -274,10 +304,19 @@ public class LoanService {
         List<LentListResponseDTO> response = new ArrayList<>();
 
         try {
-            // 2. 토큰 Id를 조회하며, 각 NFT 정보를 호출
+            // 2. 토큰 Id 목록으로 NFT 정보를 배치 조회
+            Map<BigInteger, PromissoryNoteChainData> chainDataMap = blockchainBatchService.getMetadataAndRepayment(
+                    contracts.stream().map(Contract::getTokenId).toList());
+
             for (Contract contract : contracts) {
-                PromissoryNote.PromissoryMetadata promissoryMetadata = promissoryNoteService.getPromissoryMetadata(contract.getTokenId());
-                RepaymentScheduler.RepaymentInfo repaymentInfo = repaymentSchedulerService.getPaymentInfo(contract.getTokenId());
+                PromissoryNoteChainData chainData = chainDataMap.get(contract.getTokenId());
+                // 체인 조회에 실패한 토큰은 제외하고 나머지만 응답
+                if (chainData == null || !chainData.isComplete()) {
+                    log.warn("[블록체인 리스트 조회] 체인 정보 조회 실패로 제외 - tokenId {}", contract.getTokenId());
+                    continue;
+                }
+                PromissoryNote.PromissoryMetadata promissoryMetadata = chainData.getMetadata();
+                RepaymentScheduler.RepaymentInfo repaymentInfo = chainData.getRepaymentInfo();
 
                 // 상환 상태가 활성화되어있는지 확인
 
@@ -380,14 +419,27 @@ public class LoanService {
                 .toList();
 
         // 이미 경매중인 차용증 제외
-        List<LentAuctionResponseDTO> content = contracts.stream()
+        List<Contract> availableContracts = contracts.stream()
                 .filter(contract -> !auctionRepository.existsByTokenIdAndAuctionStatus(
                         contract.getTokenId(), SysCommonCodes.Auction.ING))
+                .toList();
+
+        // NFT 정보 배치 조회
+        Map<BigInteger, PromissoryNoteChainData> chainDataMap = availableContracts.isEmpty()
+                ? Collections.emptyMap()
+                : blockchainBatchService.getMetadataAndRepayment(availableContracts.stream().map(Contract::getTokenId).toList());
+
+        List<LentAuctionResponseDTO> content = availableContracts.stream()
                 .map(contract -> {
                     try {
-                        PromissoryNote.PromissoryMetadata metadata = promissoryNoteService.getPromissoryMetadata(contract.getTokenId());
-//                        RepaymentInfo repaymentInfo = repaymentSchedulerService.getRepaymentInfo(contract.getTokenId());
-                        RepaymentScheduler.RepaymentInfo repaymentInfo = repaymentSchedulerService.getPaymentInfo(contract.getTokenId());
+                        PromissoryNoteChainData chainData = chainDataMap.get(contract.getTokenId());
+                        // 체인 조회에 실패한 토큰은 제외하고 나머지만 응답
+                        if (chainData == null || !chainData.isComplete()) {
+                            log.warn("[채권자 NFT 조회 실패] 체인 정보 없음 - tokenId={}", contract.getTokenId());
+                            return null;
+                        }
+                        PromissoryNote.PromissoryMetadata metadata = chainData.getMetadata();
+                        RepaymentScheduler.RepaymentInfo repaymentInfo = chainData.getRepaymentInfo();
                         
                         // 채무자 신용점수 조회
                         String creditScore = bankService.getCreditScore(userId);
@@ -6,7 +6,6 @@ import com.rabbit.notification.domain.dto.request.NotificationRequestDTO;
 import com.rabbit.notification.domain.dto.response.NotificationResponseDTO;
 import com.rabbit.notification.domain.entity.Notification;
 import com.rabbit.notification.repository.NotificationRepository;
-import com.rabbit.sse.domain.dto.response.SseEventResponseDTO;
 import com.rabbit.sse.service.SseEventPublisher;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
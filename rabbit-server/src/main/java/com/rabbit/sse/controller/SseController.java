@@ -23,7 +23,7 @@ public class SseController {
     ) {
         String userId = jwtUtil.getUserIdFromToken(token);
         String key = "user-" + userId;
-        return sseService.subscribe(key);
+        return sseService.subscribe(key, lastEventId);
     }
 
     // 인증 없이 구독 가능한 경매 SSE
@@ -33,7 +33,7 @@ public class SseController {
             @RequestHeader(value = "Last-Event-Id", required = false) String lastEventId
     ) {
         String key = "auction-" + id;
-        return sseService.subscribe(key);
+        return sseService.subscribe(key, lastEventId);
     }
 
 }
\ No newline at end of file
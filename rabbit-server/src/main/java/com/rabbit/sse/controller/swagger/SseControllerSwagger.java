@@ -42,11 +42,11 @@ public interface SseControllerSwagger {
                     ),
                     @Parameter(
                             name = "Last-Event-Id",
-                            description = "이전에 수신한 마지막 이벤트 ID (재연결 시 사용)",
+                            description = "이전에 수신한 마지막 이벤트 ID (재연결 시 이후 이벤트를 재전송)",
                             required = false,
                             in = ParameterIn.HEADER,
                             schema = @Schema(type = "string"),
-                            example = "event123"
+                            example = "1711796400000-0"
                     )
             },
             responses = {
@@ -60,7 +60,7 @@ public interface SseControllerSwagger {
                                             name = "이벤트 스트림 예시",
                                             summary = "입찰 이벤트 수신 예시",
                                             value = "event: bid\n" +
-                                                    "id: event456\n" +
+                                                    "id: 1711796400000-1\n" +
                                                     "data: {\n" +
                                                     "  \"bidId\": 101,\n" +
                                                     "  \"bidAmount\": 150000,\n" +
@@ -1,16 +0,0 @@
-package com.rabbit.sse.domain.dto.response;
-
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-@Data
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
-public class SseEventResponseDTO {
-    private String type;
-    private String key;
-    private Object data;
-}
\ No newline at end of file
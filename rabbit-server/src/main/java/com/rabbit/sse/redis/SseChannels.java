@@ -0,0 +1,41 @@
+package com.rabbit.sse.redis;
+
+/**
+ * SSE 키별 Redis 채널 이름
+ * - user-{id} → sse:user:{id}, auction-{id} → sse:auction:{id}
+ * - 재전송용 스트림은 sse:stream:user:{id}, sse:stream:auction:{id}
+ */
+public final class SseChannels {
+
+    private static final String PREFIX = "sse:";
+    private static final String STREAM_PREFIX = "sse:stream:";
+
+    private SseChannels() {
+    }
+
+    public static String of(String key) {
+        return PREFIX + toPath(key);
+    }
+
+    public static String streamOf(String key) {
+        return STREAM_PREFIX + toPath(key);
+    }
+
+    // sse:user:{id} → user-{id}
+    public static String keyOf(String channel) {
+        String path = channel.substring(PREFIX.length());
+        int separator = path.indexOf(':');
+        if (separator < 0) {
+            return path;
+        }
+        return path.substring(0, separator) + "-" + path.substring(separator + 1);
+    }
+
+    private static String toPath(String key) {
+        int separator = key.indexOf('-');
+        if (separator < 0) {
+            return key;
+        }
+        return key.substring(0, separator) + ":" + key.substring(separator + 1);
+    }
+}
@@ -0,0 +1,88 @@
+package com.rabbit.sse.redis;
+
+import com.rabbit.sse.service.SseEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SSE 키별 Redis Stream (sse:stream:{type}:{id})
+ * - 이벤트마다 XADD 로 길이 제한 스트림에 쌓고 같은 스크립트 안에서 키 채널로 PUBLISH ("{스트림 ID}\n{타입}\n{데이터 JSON}")
+ *   → 스트림 ID 순서와 채널 수신 순서가 항상 같음 (여러 서버가 동시에 발행해도)
+ * - 스트림 ID 를 SSE 이벤트 ID 로 쓰고, 재연결 시 Last-Event-Id 이후 레코드를 재전송
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseEventStream {
+
+    private static final String FIELD_TYPE = "type";
+    private static final String FIELD_DATA = "data";
+
+    // KEYS[1]=스트림, ARGV[1]=최대 길이, ARGV[2]=이벤트 타입, ARGV[3]=데이터 JSON, ARGV[4]=TTL(초), ARGV[5]=채널
+    private static final RedisScript<String> APPEND_SCRIPT = new DefaultRedisScript<>(
+            "local id = redis.call('XADD', KEYS[1], 'MAXLEN', '~', ARGV[1], '*', 'type', ARGV[2], 'data', ARGV[3]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[4]) " +
+            "redis.call('PUBLISH', ARGV[5], id .. '\\n' .. ARGV[2] .. '\\n' .. ARGV[3]) " +
+            "return id",
+            String.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${sse.stream.max-length:200}")
+    private long maxLength;
+
+    @Value("${sse.stream.ttl-hours:24}")
+    private long ttlHours;
+
+    /**
+     * 스트림에 추가하고 키 채널로 발행
+     * @return 스트림 ID
+     */
+    public String append(String key, String type, String dataJson) {
+        return redisTemplate.execute(APPEND_SCRIPT,
+                List.of(SseChannels.streamOf(key)),
+                String.valueOf(maxLength),
+                type,
+                dataJson,
+                String.valueOf(ttlHours * 3600),
+                SseChannels.of(key));
+    }
+
+    // lastEventId 이후(미포함) 레코드 조회
+    public List<SseEvent> readAfter(String key, String lastEventId) {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().range(
+                SseChannels.streamOf(key),
+                Range.rightUnbounded(Range.Bound.exclusive(lastEventId)),
+                Limit.limit().count((int) maxLength));
+
+        if (records == null) {
+            return List.of();
+        }
+
+        List<SseEvent> events = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            try {
+                byte[] data = ((String) record.getValue().get(FIELD_DATA)).getBytes(StandardCharsets.UTF_8);
+                events.add(SseEvent.of(
+                        record.getId().getValue(),
+                        (String) record.getValue().get(FIELD_TYPE),
+                        data, 0, data.length));
+            } catch (Exception e) {
+                log.warn("[SseEventStream] 스트림 레코드 파싱 실패 - key={}, id={}", key, record.getId(), e);
+            }
+        }
+        return events;
+    }
+}
@@ -1,37 +1,66 @@
 package com.rabbit.sse.redis;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.rabbit.sse.domain.dto.response.SseEventResponseDTO;
-import com.rabbit.sse.service.SseService;
+import com.rabbit.sse.service.SseCoalescer;
+import com.rabbit.sse.service.SseEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Component;
 
 import java.nio.charset.StandardCharsets;
 
+/**
+ * SSE 키별 채널 구독자
+ * - 이 서버에 연결된 키의 채널(sse:user:{id}, sse:auction:{id})만 구독해서 다른 키의 이벤트는 받지 않음
+ * - 구독/해지는 SseConnectionManager 가 키의 첫 연결 등록(register)/마지막 연결 해제(unregister) 시점에 호출
+ * - data JSON 은 역직렬화하지 않고 받은 바이트 그대로 SSE 프레임으로 만들어 모든 연결이 공유
+ */
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class SseRedisSubscriber implements MessageListener {
 
-    private final ObjectMapper objectMapper;
-    private final SseService sseService;
+    private final SseCoalescer sseCoalescer;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    public void subscribe(String key) {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(SseChannels.of(key)));
+    }
+
+    public void unsubscribe(String key) {
+        redisMessageListenerContainer.removeMessageListener(this, new ChannelTopic(SseChannels.of(key)));
+    }
 
     @Override
     public void onMessage(Message message, byte[] pattern) {
         try {
-            String raw = new String(message.getBody(), StandardCharsets.UTF_8);
-            SseEventResponseDTO event = objectMapper.readValue(raw, SseEventResponseDTO.class);
+            // "{스트림 ID}\n{타입}\n{데이터 JSON}" (SseEventStream.append 참고)
+            byte[] body = message.getBody();
+            int idEnd = indexOf(body, 0);
+            int typeEnd = indexOf(body, idEnd + 1);
 
-            System.out.println(event.getData());
-            log.info("[Redis] SSE 이벤트 수신: {}", event);
+            String key = SseChannels.keyOf(new String(message.getChannel(), StandardCharsets.UTF_8));
+            String id = new String(body, 0, idEnd, StandardCharsets.UTF_8);
+            String type = new String(body, idEnd + 1, typeEnd - idEnd - 1, StandardCharsets.UTF_8);
 
-            sseService.publish(event.getKey(), event.getType(), event.getData());
+            log.debug("[Redis] SSE 이벤트 수신 - key={}, id={}, type={}", key, id, type);
+
+            sseCoalescer.publish(key, SseEvent.of(id, type, body, typeEnd + 1, body.length - typeEnd - 1));
 
         } catch (Exception e) {
             log.error("Redis 메시지 처리 실패", e);
         }
     }
+
+    private int indexOf(byte[] body, int from) {
+        for (int i = from; i < body.length; i++) {
+            if (body[i] == '\n') {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("SSE 메시지 형식 오류");
+    }
 }
@@ -0,0 +1,98 @@
+package com.rabbit.sse.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SSE 이벤트 병합 단계 (Redis 수신 → 병합 → 전송)
+ * - 병합 대상 이벤트(기본 bid-updated)는 키/이벤트 타입별로 window 동안 마지막 값만 남겼다가 한 번에 전송
+ * - 병합 대상이 아닌 이벤트는 같은 키의 대기 중인 이벤트를 먼저 보낸 뒤 바로 전송 (순서 유지, 절대 병합하지 않음)
+ * - 비활성화하면 모든 이벤트를 바로 전송
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SseCoalescer {
+
+    private final SseService sseService;
+
+    @Value("${sse.coalesce.enabled:false}")
+    private boolean enabled;
+
+    @Value("${sse.coalesce.window-ms:100}")
+    private long windowMs;
+
+    @Value("${sse.coalesce.event-types:bid-updated}")
+    private Set<String> coalescedTypes;
+
+    // 키/이벤트 타입별 대기 중인 마지막 이벤트
+    private final Map<PendingKey, SseEvent> pending = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    void init() {
+        if (enabled) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "sse-coalesce"));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    public void publish(String key, SseEvent event) {
+        if (!enabled) {
+            sseService.publish(key, event);
+            return;
+        }
+
+        if (!coalescedTypes.contains(event.name())) {
+            flush(key);
+            sseService.publish(key, event);
+            return;
+        }
+
+        // 대기 중인 이벤트가 없을 때만 전송 예약 (있으면 값만 교체)
+        PendingKey pendingKey = new PendingKey(key, event.name());
+        if (pending.put(pendingKey, event) == null) {
+            scheduler.schedule(() -> send(pendingKey), windowMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // 키의 대기 중인 이벤트를 바로 전송
+    private void flush(String key) {
+        for (String eventName : coalescedTypes) {
+            send(new PendingKey(key, eventName));
+        }
+    }
+
+    private void send(PendingKey pendingKey) {
+        SseEvent event = pending.remove(pendingKey);
+        if (event == null) {
+            return;
+        }
+        try {
+            sseService.publish(pendingKey.key(), event);
+        } catch (Exception e) {
+            log.error("[SseCoalescer] 병합 이벤트 전송 실패 - key={}, event={}", pendingKey.key(), pendingKey.eventName(), e);
+        }
+    }
+
+    private record PendingKey(String key, String eventName) {
+    }
+}
@@ -0,0 +1,198 @@
+package com.rabbit.sse.service;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * SSE 연결 하나 (키당 여러 개)
+ * - 이벤트는 크기가 제한된 연결별 대기열에 넣고 전송 풀에서 꺼내 보냄 → 느린 연결은 자기 대기열만 밀림
+ * - 대기열이 가득 차면 overflowPolicy 에 따라 처리
+ * - 재연결 시 놓친 이벤트를 재전송하는 동안에는 대기열을 비우지 않고, 재전송이 끝나면 이어서 보냄
+ * - 재전송이 끝난 지점(replayWatermark) 이하의 실시간 이벤트만 버려 재전송/실시간 이벤트가 겹쳐도 중복 없음
+ * - 실시간 이벤트끼리는 ID 로 거르지 않음 (리스너 컨테이너가 여러 스레드로 전달해 도착 순서가 스트림 순서와 다를 수 있음)
+ */
+@Slf4j
+class SseConnection {
+
+    @Getter
+    private final SseEmitter emitter;
+    private final int capacity;
+    private final SseOverflowPolicy overflowPolicy;
+    private final Executor sender;
+    private final SseDeliveryMetrics metrics;
+
+    private final Deque<QueuedEvent> queue = new ArrayDeque<>();
+    private boolean replaying;
+    private boolean draining;
+    private boolean closed;
+
+    // 재전송으로 보낸 마지막 스트림 ID (재전송 스레드에서만 쓰고, replaying 해제 후 전송 풀 스레드에서 읽기만 함)
+    private RecordId replayWatermark;
+
+    // lastEventId 가 있으면 재전송 대기 상태로 시작하고 그 이하 이벤트는 보내지 않음
+    SseConnection(SseEmitter emitter, RecordId lastEventId, int capacity, SseOverflowPolicy overflowPolicy,
+                  Executor sender, SseDeliveryMetrics metrics) {
+        this.emitter = emitter;
+        this.replayWatermark = lastEventId;
+        this.replaying = lastEventId != null;
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.sender = sender;
+        this.metrics = metrics;
+    }
+
+    // 실시간 이벤트를 대기열에 넣음 (호출 스레드에서 전송하지 않음)
+    synchronized void deliver(SseEvent event) {
+        if (closed) {
+            return;
+        }
+        if (queue.size() >= capacity && !overflow(event)) {
+            return;
+        }
+        queue.addLast(new QueuedEvent(event, System.nanoTime()));
+        metrics.enqueued(event.frame().length);
+        scheduleDrain();
+    }
+
+    // 재전송 이벤트를 직접 보낸 뒤 대기열 전송 재개 (구독 요청 스레드에서 실행)
+    void replay(List<SseEvent> missed) throws IOException {
+        try {
+            for (SseEvent event : missed) {
+                sendReplayed(event);
+            }
+        } finally {
+            synchronized (this) {
+                replaying = false;
+                scheduleDrain();
+            }
+        }
+    }
+
+    synchronized void close() {
+        closed = true;
+        while (!queue.isEmpty()) {
+            discard(queue.pollFirst());
+        }
+    }
+
+    // 대기열에서 가장 오래 기다린 이벤트의 대기 시간 (ms)
+    synchronized long lagMillis() {
+        QueuedEvent oldest = queue.peekFirst();
+        return oldest == null ? 0 : (System.nanoTime() - oldest.enqueuedAt()) / 1_000_000;
+    }
+
+    // 대기열에 넣을지 여부
+    private boolean overflow(SseEvent event) {
+        metrics.overflow(overflowPolicy);
+        switch (overflowPolicy) {
+            case COALESCE -> {
+                Iterator<QueuedEvent> iterator = queue.iterator();
+                while (iterator.hasNext()) {
+                    QueuedEvent queued = iterator.next();
+                    if (queued.event().name().equals(event.name())) {
+                        iterator.remove();
+                        discard(queued);
+                        return true;
+                    }
+                }
+                discard(queue.pollFirst());
+                return true;
+            }
+            case DISCONNECT -> {
+                log.warn("[SseConnection] 전송 대기열 초과로 연결 종료 - capacity={}", capacity);
+                close();
+                emitter.complete();
+                return false;
+            }
+            default -> {
+                discard(queue.pollFirst());
+                return true;
+            }
+        }
+    }
+
+    private void discard(QueuedEvent queued) {
+        metrics.discarded(queued.event().frame().length);
+    }
+
+    private void scheduleDrain() {
+        if (draining || replaying || queue.isEmpty()) {
+            return;
+        }
+        draining = true;
+        try {
+            sender.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            draining = false;
+            log.warn("[SseConnection] 전송 작업 등록 실패", e);
+        }
+    }
+
+    // 전송 풀 스레드에서 실행
+    private void drain() {
+        while (true) {
+            QueuedEvent next;
+            synchronized (this) {
+                next = queue.pollFirst();
+                if (next == null || closed) {
+                    draining = false;
+                    return;
+                }
+            }
+            metrics.sent(next.enqueuedAt(), next.event().frame().length);
+            try {
+                send(next.event());
+            } catch (IOException | IllegalStateException e) {
+                close();
+                emitter.completeWithError(e);
+                return;
+            }
+        }
+    }
+
+    // 재전송 이벤트 (스트림 순서대로 오므로 워터마크를 올리며 전송)
+    private void sendReplayed(SseEvent event) throws IOException {
+        RecordId id = RecordId.of(event.id());
+        if (replayWatermark != null && !isAfter(id, replayWatermark)) {
+            return;
+        }
+        write(event.frame());
+        replayWatermark = id;
+    }
+
+    // 실시간 이벤트 (재전송에 이미 포함된 이벤트만 건너뜀)
+    private void send(SseEvent event) throws IOException {
+        if (event.id() != null && replayWatermark != null && !isAfter(RecordId.of(event.id()), replayWatermark)) {
+            return;
+        }
+        write(event.frame());
+    }
+
+    // 이미 인코딩된 SSE 프레임을 그대로 씀 (byte[] 라 ByteArrayHttpMessageConverter 가 복사/직렬화 없이 응답에 씀)
+    private void write(byte[] frame) throws IOException {
+        emitter.send(Set.of(new ResponseBodyEmitter.DataWithMediaType(frame, MediaType.TEXT_PLAIN)));
+    }
+
+    static boolean isAfter(RecordId id, RecordId other) {
+        if (id.getTimestamp() != other.getTimestamp()) {
+            return id.getTimestamp() > other.getTimestamp();
+        }
+        return id.getSequence() > other.getSequence();
+    }
+
+    private record QueuedEvent(SseEvent event, long enqueuedAt) {
+    }
+}
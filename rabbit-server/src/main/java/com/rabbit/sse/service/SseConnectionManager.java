@@ -0,0 +1,195 @@
+package com.rabbit.sse.service;
+
+import com.rabbit.global.config.AsyncConfig;
+import com.rabbit.global.exception.BusinessException;
+import com.rabbit.global.exception.ErrorCode;
+import com.rabbit.sse.redis.SseRedisSubscriber;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * SSE 연결 관리
+ * - 키별 연결 목록 관리 (키의 첫 연결 시 Redis 채널 구독, 마지막 연결이 끊기면 구독 해지 후 키 제거)
+ * - 서버당 연결 수 제한 (초과 시 거절), 사용자당 연결 수 제한 (초과 시 가장 오래된 연결 종료)
+ * - 주기적으로 heartbeat 주석을 보내서 끊어진 연결을 타임아웃 전에 정리
+ * - sse.connections{type}, sse.keys, sse.queue.bytes, sse.events.sent 메트릭 노출
+ */
+@Slf4j
+@Component
+public class SseConnectionManager {
+
+    private static final String USER_KEY_PREFIX = "user-";
+
+    // SseRedisSubscriber → SseCoalescer → SseService → SseConnectionManager 순환 참조라 지연 조회
+    private final ObjectProvider<SseRedisSubscriber> sseRedisSubscriber;
+    private final ThreadPoolTaskExecutor sseSenderExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${sse.connection.timeout-minutes:60}")
+    private long timeoutMinutes;
+
+    @Value("${sse.connection.max-per-node:10000}")
+    private int maxPerNode;
+
+    @Value("${sse.connection.max-per-user:5}")
+    private int maxPerUser;
+
+    @Value("${sse.sender.queue-capacity:32}")
+    private int queueCapacity;
+
+    @Value("${sse.sender.overflow-policy:DISCONNECT}")
+    private SseOverflowPolicy overflowPolicy;
+
+    private final Map<String, List<SseConnection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger total = new AtomicInteger();
+    private final Map<String, AtomicInteger> countsByType = new ConcurrentHashMap<>();
+
+    private SseDeliveryMetrics deliveryMetrics;
+
+    public SseConnectionManager(ObjectProvider<SseRedisSubscriber> sseRedisSubscriber,
+                                @Qualifier(AsyncConfig.SSE_SENDER_EXECUTOR) ThreadPoolTaskExecutor sseSenderExecutor,
+                                MeterRegistry meterRegistry) {
+        this.sseRedisSubscriber = sseRedisSubscriber;
+        this.sseSenderExecutor = sseSenderExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void init() {
+        deliveryMetrics = new SseDeliveryMetrics(meterRegistry);
+        Gauge.builder("sse.connection.lag.max", this, SseConnectionManager::maxLagMillis)
+                .description("가장 밀린 SSE 연결의 대기 시간 (ms)")
+                .register(meterRegistry);
+        Gauge.builder("sse.keys", connections, Map::size)
+                .description("이 서버에 연결이 있는 SSE 키 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 연결 생성 및 등록
+     * lastEventId 가 있으면 재전송 대기 상태로 만들어지므로 호출한 쪽에서 SseConnection.replay 를 호출해야 함
+     */
+    SseConnection open(String key, RecordId lastEventId) {
+        if (total.incrementAndGet() > maxPerNode) {
+            total.decrementAndGet();
+            log.warn("[SseConnectionManager] 서버 연결 수 초과 - key={}, max={}", key, maxPerNode);
+            throw new BusinessException(ErrorCode.SSE_CONNECTION_LIMIT, "실시간 연결이 많아 연결할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMinutes * 60 * 1000L);
+        SseConnection connection = new SseConnection(emitter, lastEventId, queueCapacity, overflowPolicy,
+                sseSenderExecutor, deliveryMetrics);
+
+        SseConnection evicted = register(key, connection);
+        if (evicted != null) {
+            log.info("[SseConnectionManager] 사용자 연결 수 초과로 가장 오래된 연결 종료 - key={}", key);
+            evicted.getEmitter().complete();
+        }
+
+        emitter.onCompletion(() -> unregister(key, connection));
+        emitter.onTimeout(() -> {
+            unregister(key, connection);
+            emitter.complete();
+        });
+        emitter.onError(e -> {
+            unregister(key, connection);
+            emitter.completeWithError(e);
+        });
+
+        return connection;
+    }
+
+    List<SseConnection> connectionsOf(String key) {
+        return connections.getOrDefault(key, List.of());
+    }
+
+    // 대기열로 보내므로 끊어진 연결은 전송 실패 또는 대기열 초과로 정리됨
+    @Scheduled(fixedRateString = "${sse.heartbeat.interval-ms:15000}")
+    public void heartbeat() {
+        for (List<SseConnection> list : connections.values()) {
+            for (SseConnection connection : list) {
+                connection.deliver(SseEvent.HEARTBEAT);
+            }
+        }
+    }
+
+    /**
+     * 키의 첫 연결이면 채널 구독
+     * @return 사용자당 연결 수를 넘겨 목록에서 뺀 가장 오래된 연결 (없으면 null)
+     */
+    private SseConnection register(String key, SseConnection connection) {
+        SseConnection[] evicted = new SseConnection[1];
+        connections.compute(key, (k, list) -> {
+            if (list == null) {
+                list = new CopyOnWriteArrayList<>();
+                sseRedisSubscriber.getObject().subscribe(k);
+            }
+            if (k.startsWith(USER_KEY_PREFIX) && list.size() >= maxPerUser) {
+                evicted[0] = list.remove(0);
+                evicted[0].close();
+                countOf(k).decrementAndGet();
+                total.decrementAndGet();
+            }
+            list.add(connection);
+            countOf(k).incrementAndGet();
+            return list;
+        });
+        return evicted[0];
+    }
+
+    // 키의 마지막 연결이면 채널 구독 해지 후 키 제거 (이미 제거된 연결이면 무시)
+    private void unregister(String key, SseConnection connection) {
+        connection.close();
+        connections.computeIfPresent(key, (k, list) -> {
+            if (list.remove(connection)) {
+                countOf(k).decrementAndGet();
+                total.decrementAndGet();
+            }
+            if (!list.isEmpty()) {
+                return list;
+            }
+            sseRedisSubscriber.getObject().unsubscribe(k);
+            return null;
+        });
+    }
+
+    // 키 타입(user, auction)별 연결 수, 처음 보는 타입이면 게이지 등록
+    private AtomicInteger countOf(String key) {
+        int separator = key.indexOf('-');
+        String type = separator < 0 ? key : key.substring(0, separator);
+        return countsByType.computeIfAbsent(type, t -> {
+            AtomicInteger count = new AtomicInteger();
+            Gauge.builder("sse.connections", count, AtomicInteger::get)
+                    .description("SSE 연결 수")
+                    .tag("type", t)
+                    .register(meterRegistry);
+            return count;
+        });
+    }
+
+    private double maxLagMillis() {
+        long max = 0;
+        for (List<SseConnection> list : connections.values()) {
+            for (SseConnection connection : list) {
+                max = Math.max(max, connection.lagMillis());
+            }
+        }
+        return max;
+    }
+}
@@ -0,0 +1,70 @@
+package com.rabbit.sse.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SSE 전송 메트릭
+ * - sse.delivery.lag: 연결 대기열에 들어간 뒤 실제 전송까지 걸린 시간 (연결마다 기록)
+ * - sse.queue.pending: 전체 연결 대기열에 쌓인 이벤트 수
+ * - sse.queue.bytes: 전체 연결 대기열에 쌓인 프레임 바이트 수 (공유 프레임도 연결마다 합산)
+ * - sse.events.sent: 전송한 이벤트 수 (heartbeat 포함, 전송률은 rate 로 확인)
+ * - sse.queue.overflow: 대기열 초과 처리 횟수 (policy 태그)
+ */
+class SseDeliveryMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Timer lagTimer;
+    private final Counter sentCounter;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicLong pendingBytes = new AtomicLong();
+
+    SseDeliveryMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.lagTimer = Timer.builder("sse.delivery.lag")
+                .description("SSE 이벤트 대기열 진입부터 전송까지 걸린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("sse.events.sent")
+                .description("전송한 SSE 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.queue.pending", pending, AtomicInteger::get)
+                .description("SSE 연결 대기열에 쌓인 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("sse.queue.bytes", pendingBytes, AtomicLong::get)
+                .description("SSE 연결 대기열에 쌓인 프레임 바이트 수")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    void enqueued(int bytes) {
+        pending.incrementAndGet();
+        pendingBytes.addAndGet(bytes);
+    }
+
+    void discarded(int bytes) {
+        pending.decrementAndGet();
+        pendingBytes.addAndGet(-bytes);
+    }
+
+    void sent(long enqueuedAtNanos, int bytes) {
+        pending.decrementAndGet();
+        pendingBytes.addAndGet(-bytes);
+        sentCounter.increment();
+        lagTimer.record(System.nanoTime() - enqueuedAtNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void overflow(SseOverflowPolicy policy) {
+        Counter.builder("sse.queue.overflow")
+                .description("SSE 연결 대기열 초과 처리 횟수")
+                .tag("policy", policy.name())
+                .register(meterRegistry)
+                .increment();
+    }
+}
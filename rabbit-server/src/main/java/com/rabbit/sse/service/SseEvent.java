@@ -0,0 +1,45 @@
+package com.rabbit.sse.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * SSE 전송 단위 (id 는 키별 Redis Stream 의 레코드 ID, heartbeat 는 null)
+ * - frame 은 "id/event/data" 가 인코딩된 UTF-8 바이트로, 키의 모든 연결이 같은 배열을 공유해서 그대로 씀
+ */
+public record SseEvent(String id, String name, byte[] frame) {
+
+    // 끊어진 연결 확인용 주석 (id 가 없어 재전송 위치에 영향 없음)
+    public static final SseEvent HEARTBEAT = new SseEvent(null, "heartbeat", ":\n\n".getBytes(StandardCharsets.UTF_8));
+
+    private static final byte[] ID = "id:".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] EVENT = "event:".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] DATA = "data:".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * 이미 JSON 으로 직렬화된 data 바이트로 SSE 프레임 생성 (data 는 다시 인코딩하지 않음)
+     */
+    public static SseEvent of(String id, String name, byte[] data, int offset, int length) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(length + id.length() + name.length() + 24);
+        out.writeBytes(ID);
+        out.writeBytes(id.getBytes(StandardCharsets.UTF_8));
+        out.write('\n');
+        out.writeBytes(EVENT);
+        out.writeBytes(name.getBytes(StandardCharsets.UTF_8));
+        out.write('\n');
+
+        // 줄바꿈이 있으면 줄마다 data: 를 붙임 (Jackson 기본 출력에는 없음)
+        out.writeBytes(DATA);
+        int end = offset + length;
+        for (int i = offset; i < end; i++) {
+            out.write(data[i]);
+            if (data[i] == '\n' && i + 1 < end) {
+                out.writeBytes(DATA);
+            }
+        }
+        out.write('\n');
+        out.write('\n');
+
+        return new SseEvent(id, name, out.toByteArray());
+    }
+}
@@ -0,0 +1,10 @@
+package com.rabbit.sse.service;
+
+/**
+ * 연결별 전송 대기열이 가득 찼을 때 처리 방식
+ */
+public enum SseOverflowPolicy {
+    DROP_OLDEST,   // 가장 오래된 이벤트를 버림
+    COALESCE,      // 같은 이름의 대기 이벤트를 새 이벤트로 교체 (없으면 가장 오래된 이벤트를 버림)
+    DISCONNECT     // 연결을 끊음 (클라이언트는 Last-Event-Id 로 재연결해서 스트림에서 재전송 받음)
+}
@@ -1,51 +1,72 @@
 package com.rabbit.sse.service;
 
 
-import com.rabbit.auction.domain.dto.response.BidResponseDTO;
+import com.rabbit.sse.redis.SseEventStream;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.stream.RecordId;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class SseService {
 
-    private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private final SseConnectionManager sseConnectionManager;
+    private final SseEventStream sseEventStream;
 
-    public SseEmitter subscribe(String key) {
-        SseEmitter emitter = new SseEmitter(60 * 60 * 1000L); // 1시간 타임아웃
-        emitters.computeIfAbsent(key, k -> new CopyOnWriteArrayList<>()).add(emitter);
+    /**
+     * SSE 구독
+     * - lastEventId(스트림 ID)가 있으면 그 이후 이벤트를 먼저 재전송하고 실시간 전송을 이어감
+     * - 재전송 중 들어온 실시간 이벤트는 재전송이 끝난 뒤 중복 없이 전송
+     */
+    public SseEmitter subscribe(String key, String lastEventId) {
+        RecordId replayFrom = parseEventId(lastEventId);
+        SseConnection connection = sseConnectionManager.open(key, replayFrom);
 
-        emitter.onCompletion(() -> emitters.get(key).remove(emitter));
-        emitter.onTimeout(() -> {
-            emitters.get(key).remove(emitter);
-            emitter.complete();
-        });
-        emitter.onError(e -> {
-            emitters.get(key).remove(emitter);
-            emitter.completeWithError(e);
-        });
+        if (replayFrom != null) {
+            replay(key, connection, replayFrom);
+        }
+
+        return connection.getEmitter();
+    }
+
+    // 연결별 대기열에 넣기만 하고 전송은 전송 풀에서 (Redis 수신 스레드를 막지 않음)
+    public void publish(String key, SseEvent event) {
+        for (SseConnection connection : sseConnectionManager.connectionsOf(key)) {
+            connection.deliver(event);
+        }
+    }
+
+    private void replay(String key, SseConnection connection, RecordId replayFrom) {
+        List<SseEvent> missed;
+        try {
+            missed = sseEventStream.readAfter(key, replayFrom.getValue());
+        } catch (Exception e) {
+            log.warn("[SseService] 놓친 이벤트 조회 실패 - key={}, lastEventId={}", key, replayFrom, e);
+            missed = List.of();
+        }
 
-        return emitter;
+        try {
+            connection.replay(missed);
+        } catch (IOException e) {
+            connection.getEmitter().completeWithError(e);
+        }
     }
 
-    public void publish(String key, String eventName, Object data) {
-        List<SseEmitter> list = emitters.getOrDefault(key, List.of());
-        for (SseEmitter emitter : list) {
-            try {
-                emitter.send(SseEmitter.event()
-                        .id("event-" + System.currentTimeMillis())
-                        .name(eventName)
-                        .data(data));
-            } catch (IOException e) {
-                emitter.completeWithError(e);
-            }
+    // 스트림 ID 형식이 아니면(이전 버전 ID 등) 재전송하지 않음
+    private RecordId parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return RecordId.of(lastEventId);
+        } catch (IllegalArgumentException e) {
+            return null;
         }
     }
 }
@@ -0,0 +1,124 @@
+package com.rabbit.auction.repository;
+
+import com.rabbit.auction.domain.dto.response.AuctionMyListResponseDTO;
+import com.rabbit.auction.domain.dto.response.MyAuctionResponseDTO;
+import com.rabbit.auction.domain.entity.Auction;
+import com.rabbit.auction.domain.entity.Bid;
+import com.rabbit.global.code.domain.enums.SysCommonCodes;
+import com.rabbit.global.config.QueryDslConfig;
+import com.rabbit.global.jpa.QueryCountInspector;
+import com.rabbit.user.domain.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigInteger;
+import java.time.ZonedDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * /my-auctions, /my-bids 조회의 SQL 실행 횟수 확인 (@QueryBudget(2) 와 같은 한도)
+ * - 여러 경매/입찰을 만들어 두고 한 페이지를 조회해 행 수만큼 쿼리가 늘지 않는지 확인
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.rabbit.global.jpa.QueryCountInspector"
+})
+@Import(QueryDslConfig.class)
+class AuctionRepositoryQueryCountTest {
+
+    private static final int QUERY_BUDGET = 2;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private AuctionRepository auctionRepository;
+
+    private User assignor;
+    private User bidder;
+
+    @BeforeEach
+    void setUp() {
+        assignor = em.persist(user("assignor"));
+        bidder = em.persist(user("bidder"));
+
+        for (int i = 0; i < 5; i++) {
+            Auction auction = em.persist(auction(assignor, i));
+            em.persist(bid(auction, bidder, 1_000L + i, ZonedDateTime.now().minusMinutes(2)));
+            em.persist(bid(auction, bidder, 2_000L + i, ZonedDateTime.now().minusMinutes(1)));
+        }
+
+        em.flush();
+        em.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        QueryCountInspector.stop();
+    }
+
+    @Test
+    void myAuctionsStaysWithinQueryBudget() {
+        QueryCountInspector.start();
+        Page<AuctionMyListResponseDTO> page = auctionRepository.findMyAuctions(assignor.getUserId(), PageRequest.of(0, 10));
+        long count = QueryCountInspector.stop();
+
+        assertThat(page.getContent()).hasSize(5);
+        assertThat(count).isLessThanOrEqualTo(QUERY_BUDGET);
+    }
+
+    @Test
+    void myBidsStaysWithinQueryBudget() {
+        QueryCountInspector.start();
+        Page<MyAuctionResponseDTO> page = auctionRepository.getMyBidAuction(bidder.getUserId(), PageRequest.of(0, 10));
+        long count = QueryCountInspector.stop();
+
+        assertThat(page.getContent()).hasSize(5);
+        assertThat(count).isLessThanOrEqualTo(QUERY_BUDGET);
+    }
+
+    private User user(String name) {
+        ZonedDateTime now = ZonedDateTime.now();
+        return User.builder()
+                .email(name + "@rabbit.com")
+                .userName(name)
+                .nickname(name)
+                .passCode("passcode")
+                .createdAt(now)
+                .updatedAt(now)
+                .withdrawnFlag(false)
+                .build();
+    }
+
+    private Auction auction(User assignor, int index) {
+        return Auction.builder()
+                .assignor(assignor)
+                .minimumBid(100L)
+                .endDate(ZonedDateTime.now().plusDays(1))
+                .tokenId(BigInteger.valueOf(index + 1))
+                .auctionStatus(SysCommonCodes.Auction.ING)
+                .sellerSign("")
+                .createdAt(ZonedDateTime.now().minusMinutes(index))
+                .build();
+    }
+
+    private Bid bid(Auction auction, User bidder, Long amount, ZonedDateTime createdAt) {
+        return Bid.builder()
+                .auction(auction)
+                .userId(bidder.getUserId())
+                .bidAmount(amount)
+                .bidderSign("")
+                .createdAt(createdAt)
+                .build();
+    }
+}